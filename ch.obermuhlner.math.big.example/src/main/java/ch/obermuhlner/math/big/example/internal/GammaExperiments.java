@@ -1,6 +1,8 @@
 package ch.obermuhlner.math.big.example.internal;
 
 import ch.obermuhlner.math.big.example.StopWatch;
+import ch.obermuhlner.math.big.internal.SpougeCalculator;
+import ch.obermuhlner.math.big.internal.StirlingCalculator;
 
 import java.io.FileWriter;
 import java.io.IOException;
@@ -126,6 +128,9 @@ public class GammaExperiments {
 		runFactorialCalculatingSpougeConstants();
 		runFactorialUsingSpougeCached();
 		runFactorialUsingSpougeCachedOverPrecision();
+		runFactorialUsingStirlingOverPrecision();
+		runFactorialUsingStirlingOverArgument();
+		runFactorialOfHalfIntegerOverPrecision();
 	}
 
 	private static void runFactorialUsingEuler() {
@@ -220,6 +225,79 @@ public class GammaExperiments {
 		});
 	}
 
+	private static void runFactorialUsingStirlingOverPrecision() {
+		withPrintWriter("factorial_stirling_spouge_precisions.csv", writer -> {
+			writer.printf("%15s, %10s, %10s\n", "precision", "Spouge", "Stirling");
+
+			BigDecimal x = BigDecimal.valueOf(1.37);
+			for (int precision = 10; precision <= 500; precision+=10) {
+				MathContext mc = new MathContext(precision);
+
+				// make sure coefficients and Bernoulli numbers are calculated
+				factorialUsingSpougeCached(x, mc);
+				precompute(mc);
+
+				long spougeMicros = bestMicros(() -> factorialUsingSpougeCached(x, mc));
+				long stirlingMicros = bestMicros(() -> factorial(x, mc));
+
+				System.out.println(precision + " Spouge " + spougeMicros + " us, Stirling " + stirlingMicros + " us");
+				writer.printf("%15d, %10d, %10d\n", precision, spougeMicros, stirlingMicros);
+			}
+		});
+	}
+
+	private static void runFactorialUsingStirlingOverArgument() {
+		withPrintWriter("factorial_stirling_spouge_prec100.csv", writer -> {
+			writer.printf("%10s, %10s, %10s\n", "x", "Spouge", "Stirling");
+
+			MathContext mc = new MathContext(100);
+			for (double value : new double[] { 0.37, 3.7, 37.7, 377.7, 3777.7, 37777.7, 377777.7, 3777777.7 }) {
+				BigDecimal x = BigDecimal.valueOf(value);
+
+				// make sure coefficients and Bernoulli numbers are calculated
+				factorialUsingSpougeCached(x, mc);
+				precompute(mc);
+
+				long spougeMicros = bestMicros(() -> factorialUsingSpougeCached(x, mc));
+				long stirlingMicros = bestMicros(() -> factorial(x, mc));
+
+				System.out.println(x + "! Spouge " + spougeMicros + " us, Stirling " + stirlingMicros + " us");
+				writer.printf("%10s, %10d, %10d\n", x, spougeMicros, stirlingMicros);
+			}
+		});
+	}
+
+	private static void runFactorialOfHalfIntegerOverPrecision() {
+		withPrintWriter("factorial_stirling_spouge_half_integer.csv", writer -> {
+			writer.printf("%15s, %10s, %10s\n", "precision", "Spouge", "Stirling");
+
+			BigDecimal x = BigDecimal.valueOf(2.5);
+			for (int precision = 10; precision <= 200; precision+=10) {
+				MathContext mc = new MathContext(precision);
+
+				// make sure coefficients and Bernoulli numbers are calculated
+				SpougeCalculator.INSTANCE.precompute(mc);
+				StirlingCalculator.INSTANCE.precompute(mc);
+
+				long spougeMicros = bestMicros(() -> SpougeCalculator.INSTANCE.factorial(x, mc));
+				long stirlingMicros = bestMicros(() -> StirlingCalculator.INSTANCE.gamma(x.add(BigDecimal.ONE), mc));
+
+				System.out.println(precision + " Spouge " + spougeMicros + " us, Stirling " + stirlingMicros + " us");
+				writer.printf("%15d, %10d, %10d\n", precision, spougeMicros, stirlingMicros);
+			}
+		});
+	}
+
+	private static long bestMicros(Runnable block) {
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < 10; i++) {
+			StopWatch stopWatch = new StopWatch();
+			block.run();
+			best = Math.min(best, stopWatch.getElapsedNanos());
+		}
+		return best;
+	}
+
 	private static void runErrorOfFactorialUsingSpouge() {
 		withPrintWriter("factorial_spouge_precision.csv", writer -> {
 			MathContext mc = new MathContext(20);
@@ -5,6 +5,8 @@ import static ch.obermuhlner.math.big.BigComplex.I;
 import java.math.BigDecimal;
 import java.math.MathContext;
 
+import ch.obermuhlner.math.big.internal.PowCalculator;
+
 /**
  * Provides advanced functions operating on {@link BigComplex}s.
  */
@@ -84,9 +86,10 @@ public class BigComplexMath {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
 
 		BigDecimal expRe = BigDecimalMath.exp(x.re, mc);
+		BigDecimal[] sinCosIm = BigDecimalMath.sinCos(x.im, mc);
 		return BigComplex.valueOf(
-				expRe.multiply(BigDecimalMath.cos(x.im, mc), mc).round(mathContext),
-				expRe.multiply(BigDecimalMath.sin(x.im, mc), mc)).round(mathContext);
+				expRe.multiply(sinCosIm[1], mc).round(mathContext),
+				expRe.multiply(sinCosIm[0], mc)).round(mathContext);
 	}
 
 	/**
@@ -100,10 +103,12 @@ public class BigComplexMath {
 	 */
 	public static BigComplex sin(BigComplex x, MathContext mathContext) {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
-		
+
+		BigDecimal[] sinCosRe = BigDecimalMath.sinCos(x.re, mc);
+		BigDecimal[] sinhCoshIm = BigDecimalMath.sinhCosh(x.im, mc);
 		return BigComplex.valueOf(
-				BigDecimalMath.sin(x.re, mc).multiply(BigDecimalMath.cosh(x.im, mc), mc).round(mathContext),
-				BigDecimalMath.cos(x.re, mc).multiply(BigDecimalMath.sinh(x.im, mc), mc).round(mathContext));
+				sinCosRe[0].multiply(sinhCoshIm[1], mc).round(mathContext),
+				sinCosRe[1].multiply(sinhCoshIm[0], mc).round(mathContext));
 	}
 
 	/**
@@ -116,9 +121,11 @@ public class BigComplexMath {
 	public static BigComplex cos(BigComplex x, MathContext mathContext) {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
 
+		BigDecimal[] sinCosRe = BigDecimalMath.sinCos(x.re, mc);
+		BigDecimal[] sinhCoshIm = BigDecimalMath.sinhCosh(x.im, mc);
 		return BigComplex.valueOf(
-				BigDecimalMath.cos(x.re, mc).multiply(BigDecimalMath.cosh(x.im, mc), mc).round(mathContext),
-				BigDecimalMath.sin(x.re, mc).multiply(BigDecimalMath.sinh(x.im, mc), mc).negate().round(mathContext));
+				sinCosRe[1].multiply(sinhCoshIm[1], mc).round(mathContext),
+				sinCosRe[0].multiply(sinhCoshIm[0], mc).negate().round(mathContext));
 	}
 	
 	// 
@@ -213,7 +220,7 @@ public class BigComplexMath {
 		BigDecimal magnitude = x.abs(mc);
 
 		BigComplex a = x.add(magnitude, mc);
-		return a.divide(a.abs(mc), mc).multiply(BigDecimalMath.sqrt(magnitude, mc), mc).round(mathContext);
+		return a.multiply(BigDecimalMath.inverseSqrt(a.absSquare(mc), mc), mc).multiply(BigDecimalMath.sqrt(magnitude, mc), mc).round(mathContext);
 	}
 
 	/**
@@ -238,7 +245,8 @@ public class BigComplexMath {
 	/**
 	 * Calculates {@link BigComplex} x to the power of <code>long</code> y (x<sup>y</sup>).
 	 *
-	 * <p>The implementation tries to minimize the number of multiplications of {@link BigComplex x} (using squares whenever possible).</p>
+	 * <p>The implementation tries to minimize the number of multiplications of {@link BigComplex x} (using squares whenever possible
+	 * and a sliding window over the bits of the exponent).</p>
 	 *
 	 * <p>See: <a href="https://en.wikipedia.org/wiki/Exponentiation#Efficient_computation_with_integer_exponents">Wikipedia: Exponentiation - efficient computation</a></p>
 	 *
@@ -250,26 +258,14 @@ public class BigComplexMath {
 	public static BigComplex pow(BigComplex x, long y, MathContext mathContext) {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 10, mathContext.getRoundingMode());
 
+		if (y == 0) {
+			return BigComplex.ONE;
+		}
 		if (y < 0) {
 			return BigComplex.ONE.divide(pow(x, -y, mc), mc).round(mathContext);
 		}
-		
-		BigComplex result = BigComplex.ONE;
-		while (y > 0) {
-			if ((y & 1) == 1) {
-				// odd exponent -> multiply result with x
-				result = result.multiply(x, mc);
-				y -= 1;
-			}
-			
-			if (y > 0) {
-				// even exponent -> square x
-				x = x.multiply(x, mc);
-			}
-			
-			y >>= 1;
-		}
 
+		BigComplex result = PowCalculator.INSTANCE.pow(x, y, (a, b) -> a.multiply(b, mc));
 		return result.round(mathContext);
 	}
 
@@ -285,9 +281,8 @@ public class BigComplexMath {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
 
 		BigDecimal angleTimesN = x.angle(mc).multiply(y, mc);
-		return BigComplex.valueOf(
-				BigDecimalMath.cos(angleTimesN, mc),
-				BigDecimalMath.sin(angleTimesN, mc)).multiply(BigDecimalMath.pow(x.abs(mc), y, mc), mc).round(mathContext);
+		BigDecimal[] sinCos = BigDecimalMath.sinCos(angleTimesN, mc);
+		return BigComplex.valueOf(sinCos[1], sinCos[0]).multiply(BigDecimalMath.pow(x.abs(mc), y, mc), mc).round(mathContext);
 	}
 
 	/**
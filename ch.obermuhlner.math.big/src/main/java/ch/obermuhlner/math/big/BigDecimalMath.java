@@ -6,15 +6,25 @@ import static java.math.BigDecimal.ZERO;
 import static java.math.BigDecimal.valueOf;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
+import java.math.RoundingMode;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import ch.obermuhlner.math.big.internal.AsinCalculator;
+import ch.obermuhlner.math.big.internal.AtanCalculator;
+import ch.obermuhlner.math.big.internal.AtanhCalculator;
+import ch.obermuhlner.math.big.internal.ConstantCache;
 import ch.obermuhlner.math.big.internal.CosCalculator;
 import ch.obermuhlner.math.big.internal.CoshCalculator;
 import ch.obermuhlner.math.big.internal.ExpCalculator;
+import ch.obermuhlner.math.big.internal.PiCalculator;
+import ch.obermuhlner.math.big.internal.PowCalculator;
 import ch.obermuhlner.math.big.internal.SinCalculator;
 import ch.obermuhlner.math.big.internal.SinhCalculator;
+import ch.obermuhlner.math.big.internal.SpougeCalculator;
+import ch.obermuhlner.math.big.internal.StirlingCalculator;
 
 /**
  * Provides advanced functions operating on {@link BigDecimal}s.
@@ -23,28 +33,120 @@ public class BigDecimalMath {
 
 	private static final BigDecimal TWO = valueOf(2);
 	private static final BigDecimal THREE = valueOf(3);
+	private static final BigDecimal ONE_HALF = new BigDecimal("0.5");
 	private static final BigDecimal MINUS_ONE = valueOf(-1);
 
 	private static final BigDecimal DOUBLE_MAX_VALUE = BigDecimal.valueOf(Double.MAX_VALUE);
 
-	private static volatile BigDecimal log2Cache;
-	private static final Object log2CacheLock = new Object();
+	private static final ConstantCache log2Cache = new ConstantCache(mathContext -> logUsingNewton(TWO, mathContext));
 
-	private static volatile BigDecimal log3Cache;
-	private static final Object log3CacheLock = new Object();
+	private static final ConstantCache log3Cache = new ConstantCache(mathContext -> logUsingNewton(THREE, mathContext));
 
-	private static volatile BigDecimal log10Cache;
-	private static final Object log10CacheLock = new Object();
+	private static final ConstantCache log10Cache = new ConstantCache(mathContext -> logUsingNewton(TEN, mathContext));
 
-	private static volatile BigDecimal piCache;
-	private static final Object piCacheLock = new Object();
+	/**
+	 * Number of entries in the table of log(1 + k/LOG_TABLE_SIZE) constants used to reduce the argument of log().
+	 */
+	private static final int LOG_TABLE_SIZE = 256;
+
+	/**
+	 * Lazily created caches of the constants log(1 + k/LOG_TABLE_SIZE).
+	 */
+	private static final AtomicReferenceArray<ConstantCache> logTableCaches = new AtomicReferenceArray<>(LOG_TABLE_SIZE);
+
+	private static final ConstantCache piCache = new ConstantCache(PiCalculator.INSTANCE::calculate);
 
-	private static volatile BigDecimal eCache;
-	private static final Object eCacheLock = new Object();
+	private static final ConstantCache eCache = new ConstantCache(mathContext -> expTaylor(ONE, mathContext));
+
+	/**
+	 * Caches of e<sup>2<sup>k</sup></sup> used to calculate exp() of the integral part.
+	 */
+	private static final ConstantCache[] expPowerOfTwoCaches = new ConstantCache[Integer.SIZE];
+
+	static {
+		for (int i = 0; i < expPowerOfTwoCaches.length; i++) {
+			final int k = i;
+			expPowerOfTwoCaches[i] = new ConstantCache(mathContext -> calculateExpPowerOfTwo(k, mathContext));
+		}
+	}
+
+	/**
+	 * Slightly less than pi/4, arguments of trigonometric functions below this value are not reduced.
+	 */
+	private static final BigDecimal ROUGHLY_QUARTER_PI = new BigDecimal("0.785398");
+
+	private static final BigDecimal ROUGHLY_HALF_SQRT_TWO = new BigDecimal("0.707107");
 
 	private static final BigDecimal ROUGHLY_TWO_PI = new BigDecimal("3.141592653589793").multiply(TWO);
 
-	private static final int EXPECTED_INITIAL_PRECISION = 17;
+	private static final double LOG10_TWO = Math.log10(2);
+
+	/**
+	 * The arithmetic-geometric mean is faster than Newton's method with exp() above this precision (measured crossover at about 50 digits).
+	 */
+	private static final int LOG_AGM_FASTER_THAN_NEWTON_PRECISION = 100;
+
+	/**
+	 * log() uses the arithmetic-geometric mean instead of the table driven reduction above this precision.
+	 * 
+	 * <p>Once the table constants are cached the table driven reduction is faster even at several thousand digits,
+	 * but calculating the table constants for a new precision costs more than the arithmetic-geometric mean saves.</p>
+	 */
+	private static final int LOG_USING_AGM_MIN_PRECISION = 1000;
+
+	private static final double LOG2_TEN = Math.log(10) / Math.log(2);
+
+	/**
+	 * sqrt() multiplies x with the division-free inverse square root above this precision.
+	 * Below the double approximation is almost the result and a single division is cheaper.
+	 */
+	private static final int SQRT_USING_INVERSE_MIN_PRECISION = 16;
+
+	/**
+	 * The number of correct bits of the initial approximation calculated with double arithmetic.
+	 */
+	private static final int DOUBLE_SEED_BITS = 52;
+
+	/**
+	 * The number of bits by which the precision of a Newton step exceeds half the precision of the next step.
+	 * Without this margin the error of every step would be slightly more than the square of the previous error
+	 * and the missing bits would double with every step.
+	 */
+	private static final int NEWTON_GUARD_BITS = 8;
+
+	/**
+	 * The number of correct decimal digits of the initial approximation calculated with double arithmetic.
+	 */
+	private static final int DOUBLE_SEED_PRECISION = (int) (DOUBLE_SEED_BITS / LOG2_TEN);
+
+	/**
+	 * asin(x) uses Newton's method on sin() and cos() above this precision multiplied with 1/sqrt(x),
+	 * below the taylor series is faster (measured).
+	 */
+	private static final int ASIN_NEWTON_MIN_PRECISION = 40;
+
+	/**
+	 * factorial() of positive half-integer values uses Spouge's approximation up to this precision,
+	 * otherwise the Stirling series is faster (measured).
+	 * The exponent x+1/2 of Spouge's approximation is then an integer and pow() calculates an exact power.
+	 */
+	private static final int FACTORIAL_SPOUGE_MAX_PRECISION = 100;
+
+	/**
+	 * pow() calculates x<sup>1/2<sup>k</sup></sup> by calculating the square root k times up to this k.
+	 * A square root costs only a small fraction of exp(y * log(x)).
+	 */
+	private static final int POW_MAX_SQRT_COUNT = 16;
+
+	/**
+	 * Small primes used to reject most values that are not perfect powers by their power residues.
+	 */
+	private static final long[] POWER_RESIDUE_PRIMES = { 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47 };
+
+	/**
+	 * The product of {@link #POWER_RESIDUE_PRIMES}, so that all residues are calculated with a single {@link BigInteger} operation.
+	 */
+	private static final BigInteger POWER_RESIDUE_MODULUS = BigInteger.valueOf(3L * 5 * 7 * 11 * 13 * 17 * 19 * 23 * 29 * 31 * 37 * 41 * 43 * 47);
 
 	private static BigDecimal[] factorialCache = new BigDecimal[100];
 
@@ -57,9 +159,6 @@ public class BigDecimalMath {
 		}
 	}
 
-	private static final Map<Integer, List<BigDecimal>> spougeFactorialConstantsCache = new HashMap<>();
-	private static final Object spougeFactorialConstantsCacheLock = new Object();
-
 	private BigDecimalMath() {
 		// prevent instances
 	}
@@ -242,20 +341,94 @@ public class BigDecimalMath {
 		return result;
 	}
 
+	/**
+	 * Calculates the factorial of the specified integer argument with the precision specified in the {@link MathContext}.
+	 *
+	 * <p>Unlike {@link #factorial(int)} the exact product is only calculated if the result has no more significant digits than the precision.
+	 * Larger results are calculated with the Stirling series described in {@link #factorial(BigDecimal, MathContext)},
+	 * without building the exact product that would need about n log<sub>10</sub>(n) digits.</p>
+	 *
+	 * @param n the integer argument
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return the factorial {@link BigDecimal} rounded to the precision specified in the <code>mathContext</code>
+	 * @throws ArithmeticException if n &lt; 0
+	 * @see #factorial(int)
+	 * @see #logFactorial(int, MathContext)
+	 */
+	public static BigDecimal factorial(int n, MathContext mathContext) {
+		if (n < 0) {
+			throw new ArithmeticException("Illegal factorial(n) for n < 0: n = " + n);
+		}
+		if (n < factorialCache.length || factorialSignificantDigits(n) <= mathContext.getPrecision()) {
+			return factorial(n).round(mathContext);
+		}
+
+		return StirlingCalculator.INSTANCE.gamma(valueOf(n + 1L), mathContext);
+	}
+
+	/**
+	 * Estimates the number of significant digits of n! without the trailing zeros.
+	 */
+	private static double factorialSignificantDigits(int n) {
+		// Stirling's approximation of log10(n!)
+		double digits = (n + 0.5) * Math.log10(n) - n / Math.log(10) + 0.5 * Math.log10(2 * Math.PI);
+
+		// every factor 5 contributes a trailing zero
+		int trailingZeros = 0;
+		for (int power = 5; power <= n; power *= 5) {
+			trailingZeros += n / power;
+			if (power > Integer.MAX_VALUE / 5) {
+				break;
+			}
+		}
+		return digits - trailingZeros;
+	}
+
+	/**
+	 * Calculates the natural logarithm of the factorial of the specified integer argument.
+	 *
+	 * <p>The result is calculated with the Stirling series described in {@link #factorial(BigDecimal, MathContext)},
+	 * without calculating the factorial itself, which would need about n log<sub>10</sub>(n) digits.</p>
+	 *
+	 * @param n the integer argument
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return the natural logarithm of n! with the precision specified in the <code>mathContext</code>
+	 * @throws ArithmeticException if n &lt; 0
+	 * @see #factorial(int, MathContext)
+	 * @see #logGamma(BigDecimal, MathContext)
+	 */
+	public static BigDecimal logFactorial(int n, MathContext mathContext) {
+		if (n < 0) {
+			throw new ArithmeticException("Illegal logFactorial(n) for n < 0: n = " + n);
+		}
+		if (n < factorialCache.length) {
+			return log(factorialCache[n], mathContext);
+		}
+
+		return StirlingCalculator.INSTANCE.logGamma(valueOf(n + 1L), mathContext);
+	}
+
 	/**
 	 * Calculates the factorial of the specified {@link BigDecimal}.
 	 *
-	 * <p>This implementation uses
-	 * <a href="https://en.wikipedia.org/wiki/Spouge%27s_approximation">Spouge's approximation</a>
-	 * to calculate the factorial for non-integer values.</p>
+	 * <p>Integer values are calculated exactly with {@link #factorial(int)}.</p>
+	 *
+	 * <p>Non-integer values are calculated with the
+	 * <a href="https://en.wikipedia.org/wiki/Stirling%27s_approximation">Stirling series</a>
+	 * of the logarithm of the gamma function, which converges in a few terms for large arguments.
+	 * Smaller arguments are shifted up with &Gamma;(x) = &Gamma;(x+m) / (x (x+1) ... (x+m-1))
+	 * and large negative arguments use the reflection formula &Gamma;(x) = &pi; / (sin(&pi;x) &Gamma;(1-x)).</p>
 	 *
-	 * <p>This involves calculating a series of constants that depend on the desired precision.
-	 * Since this constant calculation is quite expensive (especially for higher precisions),
-	 * the constants for a specific precision will be cached
-	 * and subsequent calls to this method with the same precision will be much faster.</p>
+	 * <p>Positive half-integer values (0.5, 1.5, 2.5, ...) with a precision of up to 100 digits are calculated with
+	 * <a href="https://en.wikipedia.org/wiki/Spouge%27s_approximation">Spouge's approximation</a>,
+	 * which is faster for them.</p>
 	 *
-	 * <p>It is therefore recommended to do one call to this method with the standard precision of your application during the startup phase
-	 * and to avoid calling it with many different precisions.</p>
+	 * <p>Both need constants that depend on the desired precision:
+	 * the series needs the Bernoulli numbers up to an index that grows with the precision
+	 * and Spouge's approximation a set of constants for every precision.
+	 * The constants are calculated once and cached.
+	 * The first call with a high precision is therefore slower than subsequent calls with the same or a lower precision.
+	 * Call {@link #precompute(MathContext)} with the standard precision of your application during the startup phase to avoid this.</p>
 	 *
 	 * <p>See: <a href="https://en.wikipedia.org/wiki/Factorial#Extension_of_factorial_to_non-integer_values_of_argument">Wikipedia: Factorial - Extension of factorial to non-integer values of argument</a></p>
 	 *
@@ -268,58 +441,31 @@ public class BigDecimalMath {
 	 */
 	public static BigDecimal factorial(BigDecimal x, MathContext mathContext) {
 		if (isIntValue(x)) {
-			return factorial(x.intValueExact()).round(mathContext);
+			return factorial(x.intValueExact(), mathContext);
 		}
 
-		// https://en.wikipedia.org/wiki/Spouge%27s_approximation
-		MathContext mc = new MathContext(mathContext.getPrecision() * 2, mathContext.getRoundingMode());
-
-		int a = mathContext.getPrecision() * 13 / 10;
-		List<BigDecimal> constants = getSpougeFactorialConstants(a);
-
-		BigDecimal bigA = BigDecimal.valueOf(a);
-
-		boolean negative = false;
-		BigDecimal factor = constants.get(0);
-		for (int k = 1; k < a; k++) {
-			BigDecimal bigK = BigDecimal.valueOf(k);
-			factor = factor.add(constants.get(k).divide(x.add(bigK), mc), mc);
-			negative = !negative;
+		if (mathContext.getPrecision() <= FACTORIAL_SPOUGE_MAX_PRECISION && x.signum() > 0 && isIntValue(x.add(ONE_HALF))) {
+			return SpougeCalculator.INSTANCE.factorial(x, mathContext);
 		}
-
-		BigDecimal result = pow(x.add(bigA, mc), x.add(BigDecimal.valueOf(0.5), mc), mc);
-		result = result.multiply(exp(x.negate().subtract(bigA, mc), mc), mc);
-		result = result.multiply(factor, mc);
-
-		return result.round(mathContext);
+		return StirlingCalculator.INSTANCE.gamma(x.add(ONE), mathContext);
 	}
 
-	private static List<BigDecimal> getSpougeFactorialConstants(int a) {
-		synchronized (spougeFactorialConstantsCacheLock) {
-			return spougeFactorialConstantsCache.computeIfAbsent(a, key -> {
-				List<BigDecimal> constants = new ArrayList<>(a);
-				MathContext mc = new MathContext(a * 15 / 10);
-
-				BigDecimal c0 = sqrt(pi(mc).multiply(TWO, mc), mc);
-				constants.add(c0);
-
-				boolean negative = false;
-				BigDecimal factor = c0;
-				for (int k = 1; k < a; k++) {
-					BigDecimal bigK = BigDecimal.valueOf(k);
-					BigDecimal ck = pow(BigDecimal.valueOf(a - k), bigK.subtract(BigDecimal.valueOf(0.5), mc), mc);
-					ck = ck.multiply(exp(BigDecimal.valueOf(a - k), mc), mc);
-					ck = ck.divide(factorial(k - 1), mc);
-					if (negative) {
-						ck = ck.negate();
-					}
-					constants.add(ck);
-
-					negative = !negative;
-				}
-
-				return Collections.unmodifiableList(constants);
-			});
+	/**
+	 * Calculates and caches the constants needed by {@link #factorial(BigDecimal, MathContext)} and {@link #gamma(BigDecimal, MathContext)}
+	 * with the specified {@link MathContext}.
+	 *
+	 * <p>Calling this method during the startup phase of an application avoids the expensive calculation of the constants
+	 * in the first call of {@link #factorial(BigDecimal, MathContext)} or {@link #gamma(BigDecimal, MathContext)}.
+	 * The Bernoulli numbers of the Stirling series are reused for all lower precisions,
+	 * the constants of Spouge's approximation for slightly lower precisions.</p>
+	 *
+	 * @param mathContext the {@link MathContext} that will be used for the calculations
+	 * @see #factorial(BigDecimal, MathContext)
+	 */
+	public static void precompute(MathContext mathContext) {
+		StirlingCalculator.INSTANCE.precompute(mathContext);
+		if (mathContext.getPrecision() <= FACTORIAL_SPOUGE_MAX_PRECISION) {
+			SpougeCalculator.INSTANCE.precompute(mathContext);
 		}
 	}
 
@@ -341,6 +487,33 @@ public class BigDecimalMath {
 		return factorial(x.subtract(ONE), mathContext);
 	}
 
+	/**
+	 * Calculates the natural logarithm of the gamma function of the specified {@link BigDecimal}.
+	 *
+	 * <p>The result is calculated with the Stirling series described in {@link #factorial(BigDecimal, MathContext)},
+	 * without calculating the gamma function itself.
+	 * This is much faster for large arguments, where &Gamma;(x) has about x log<sub>10</sub>(x) integral digits.</p>
+	 *
+	 * <p>See: <a href="https://en.wikipedia.org/wiki/Gamma_function#The_log-gamma_function">Wikipedia: Gamma function - The log-gamma function</a></p>
+	 *
+	 * @param x the {@link BigDecimal}
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return the natural logarithm of &Gamma;(x) with the precision specified in the <code>mathContext</code>
+	 * @throws ArithmeticException if x &lt;= 0
+	 * @see #gamma(BigDecimal, MathContext)
+	 * @see #logFactorial(int, MathContext)
+	 */
+	public static BigDecimal logGamma(BigDecimal x, MathContext mathContext) {
+		if (x.signum() <= 0) {
+			throw new ArithmeticException("Illegal logGamma(x) for x <= 0: x = " + x);
+		}
+		if (isIntValue(x)) {
+			return logFactorial(x.intValueExact() - 1, mathContext);
+		}
+
+		return StirlingCalculator.INSTANCE.logGamma(x, mathContext);
+	}
+
 	/**
 	 * Calculates the Bernoulli number for the specified index.
 	 *
@@ -365,6 +538,19 @@ public class BigDecimalMath {
 	/**
 	 * Calculates {@link BigDecimal} x to the power of {@link BigDecimal} y (x<sup>y</sup>).
 	 * 
+	 * <p>The exponent is classified and the following cases are calculated without the general x<sup>y</sup> = e<sup>y*log(x)</sup>:</p>
+	 * <ul>
+	 * <li>integer exponents using {@link #pow(BigDecimal, long, MathContext)} or squaring and multiplying by scanning the bits of the exponent</li>
+	 * <li>x = 10<sup>m</sup> if m * y is an integer, by shifting the decimal point</li>
+	 * <li>y = n + 1/2 as x<sup>n</sup> * {@link #sqrt(BigDecimal, MathContext)} (or {@link #inverseSqrt(BigDecimal, MathContext)} for negative y)</li>
+	 * <li>y = 1/2<sup>k</sup> by calculating the square root k times</li>
+	 * </ul>
+	 * 
+	 * <p>Exact results of these cases are returned without trailing zeros,
+	 * for example <code>pow(100, 0.5)</code> returns <code>10</code> and <code>pow(10, 50)</code> returns <code>1E+50</code>
+	 * with any precision.
+	 * Compare the results with {@link BigDecimal#compareTo(BigDecimal)} instead of {@link BigDecimal#equals(Object)}.</p>
+	 * 
 	 * @param x the {@link BigDecimal} value to take to the power
 	 * @param y the {@link BigDecimal} value to serve as exponent
 	 * @param mathContext the {@link MathContext} used for the result
@@ -379,21 +565,45 @@ public class BigDecimalMath {
 			}
 		}
 
-		// TODO optimize y=0, y=1, y=10^k, y=-1, y=-10^k
+		if (isPowerOfTen(x)) {
+			BigDecimal resultExponent = y.multiply(valueOf(exponent(x)));
+			if (isIntegerValue(resultExponent) && isIntValue(resultExponent)) {
+				return powerOfTen(resultExponent.intValueExact(), mathContext);
+			}
+		}
 
-		try {
-			long longValue = y.longValueExact();
-			return pow(x, longValue, mathContext);
-		} catch (ArithmeticException ex) {
-			// ignored
+		if (isIntegerValue(y)) {
+			BigInteger integerY = y.toBigIntegerExact();
+			if (integerY.bitLength() < Long.SIZE) {
+				return pow(x, integerY.longValue(), mathContext);
+			}
+			return powInteger(x, integerY, mathContext);
 		}
-		
-		if (fractionalPart(y).signum() == 0) {
-			return powInteger(x, y, mathContext);
+
+		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
+
+		if (isIntegerValue(y.multiply(TWO))) {
+			// x^(n+1/2) = x^n * sqrt(x)
+			BigDecimal n = y.abs().subtract(ONE_HALF);
+			BigDecimal result = y.signum() > 0 ? sqrt(x, mc) : inverseSqrt(x, mc);
+			if (n.signum() != 0) {
+				result = result.multiply(pow(x, y.signum() > 0 ? n : n.negate(), mc), mc);
+			}
+			return result.round(mathContext);
+		}
+
+		int sqrtCount = inversePowerOfTwoExponent(y.abs());
+		if (sqrtCount > 0) {
+			// x^(1/2^k) = sqrt(sqrt(...sqrt(x)))
+			BigDecimal result = x;
+			for (int i = 1; i < sqrtCount; i++) {
+				result = sqrt(result, mc);
+			}
+			result = y.signum() > 0 ? sqrt(result, mc) : inverseSqrt(result, mc);
+			return result.round(mathContext);
 		}
 
 		// x^y = exp(y*log(x))
-		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
 		BigDecimal result = exp(y.multiply(log(x, mc), mc), mc);
 		
 		return result.round(mathContext);
@@ -402,7 +612,11 @@ public class BigDecimalMath {
 	/**
 	 * Calculates {@link BigDecimal} x to the power of <code>long</code> y (x<sup>y</sup>).
 	 * 
-	 * <p>The implementation tries to minimize the number of multiplications of {@link BigDecimal x} (using squares whenever possible).</p>
+	 * <p>The implementation tries to minimize the number of multiplications of {@link BigDecimal x} (using squares whenever possible
+	 * and a sliding window over the bits of the exponent).</p>
+	 * 
+	 * <p>Powers of ten x = 10<sup>m</sup> are calculated by shifting the decimal point and returned without trailing zeros,
+	 * for example <code>pow(10, 50)</code> returns <code>1E+50</code> with any precision.</p>
 	 * 
 	 * <p>See: <a href="https://en.wikipedia.org/wiki/Exponentiation#Efficient_computation_with_integer_exponents">Wikipedia: Exponentiation - efficient computation</a></p>
 	 * 
@@ -412,75 +626,98 @@ public class BigDecimalMath {
 	 * @return the calculated x to the power of y with the precision specified in the <code>mathContext</code>
 	 */
 	public static BigDecimal pow(BigDecimal x, long y, MathContext mathContext) {
-		MathContext mc = new MathContext(mathContext.getPrecision() + 10, mathContext.getRoundingMode());
+		if (y == 0) {
+			return ONE;
+		}
+		if (y == 1) {
+			return x.round(mathContext);
+		}
+		if (y == -1) {
+			return ONE.divide(x, mathContext);
+		}
+
+		if (isPowerOfTen(x) && y == (int) y) {
+			long resultExponent = (long) exponent(x) * y;
+			if (resultExponent == (int) resultExponent) {
+				return powerOfTen((int) resultExponent, mathContext);
+			}
+		}
 
-		// TODO optimize y=0, y=1, y=10^k, y=-1, y=-10^k
+		MathContext mc = powIntegerMathContext(Long.SIZE - Long.numberOfLeadingZeros(Math.abs(y)), mathContext);
 
 		if (y < 0) {
 			return ONE.divide(pow(x, -y, mc), mc).round(mathContext);
 		}
-		
-		BigDecimal result = ONE;
-		while (y > 0) {
-			if ((y & 1) == 1) {
-				// odd exponent -> multiply result with x
-				result = result.multiply(x, mc);
-				y -= 1;
-			}
-			
-			if (y > 0) {
-				// even exponent -> square x
-				x = x.multiply(x, mc);
-			}
-			
-			y >>= 1;
-		}
 
+		BigDecimal result = PowCalculator.INSTANCE.pow(x, y, (a, b) -> a.multiply(b, mc));
 		return result.round(mathContext);
 	}
 
 	/**
-	 * Calculates {@link BigDecimal} x to the power of the integer value y (x<sup>y</sup>).
-	 * 
-	 * <p>The value y MUST be an integer value.</p>
+	 * Calculates {@link BigDecimal} x to the power of the {@link BigInteger} y (x<sup>y</sup>).
 	 * 
 	 * @param x the {@link BigDecimal} value to take to the power
-	 * @param integerY the {@link BigDecimal} <strong>integer</strong> value to serve as exponent
+	 * @param y the {@link BigInteger} value to serve as exponent
 	 * @param mathContext the {@link MathContext} used for the result
 	 * @return the calculated x to the power of y with the precision specified in the <code>mathContext</code>
 	 * @see #pow(BigDecimal, long, MathContext)
 	 */
-	private static BigDecimal powInteger(BigDecimal x, BigDecimal integerY, MathContext mathContext) {
-		if (fractionalPart(integerY).signum() != 0) {
-			throw new IllegalArgumentException("Not integer value: " + integerY);
-		}
-		
-		if (integerY.signum() < 0) {
-			return ONE.divide(powInteger(x, integerY.negate(), mathContext), mathContext);
+	private static BigDecimal powInteger(BigDecimal x, BigInteger y, MathContext mathContext) {
+		MathContext mc = powIntegerMathContext(y.bitLength(), mathContext);
+
+		if (y.signum() < 0) {
+			return ONE.divide(powInteger(x, y.negate(), mc), mc).round(mathContext);
 		}
 
-		MathContext mc = new MathContext(Math.max(mathContext.getPrecision(), -integerY.scale()) + 30, mathContext.getRoundingMode());
+		BigDecimal result = PowCalculator.INSTANCE.pow(x, y, (a, b) -> a.multiply(b, mc));
+		return result.round(mathContext);
+	}
 
-		BigDecimal result = ONE;
-		while (integerY.signum() > 0) {
-			BigDecimal halfY = integerY.divide(TWO, mc);
-
-			if (fractionalPart(halfY).signum() != 0) {
-				// odd exponent -> multiply result with x
-				result = result.multiply(x, mc);
-				integerY = integerY.subtract(ONE);
-				halfY = integerY.divide(TWO, mc);
-			}
-			
-			if (halfY.signum() > 0) {
-				// even exponent -> square x
-				x = x.multiply(x, mc);
-			}
-			
-			integerY = halfY;
+	/**
+	 * Every multiplication adds a relative rounding error, which is multiplied by the exponent in the result.
+	 */
+	private static MathContext powIntegerMathContext(int exponentBits, MathContext mathContext) {
+		int guardDigits = 6 + (int) Math.ceil(exponentBits * LOG10_TWO);
+		return new MathContext(mathContext.getPrecision() + guardDigits, mathContext.getRoundingMode());
+	}
+
+	/**
+	 * Returns whether the value is an integer (has no fractional part).
+	 */
+	private static boolean isIntegerValue(BigDecimal value) {
+		return value.scale() <= 0 || value.signum() == 0 || value.stripTrailingZeros().scale() <= 0;
+	}
+
+	/**
+	 * Returns whether the value is a positive power of ten 10<sup>m</sup>.
+	 */
+	private static boolean isPowerOfTen(BigDecimal value) {
+		BigInteger unscaledValue = value.unscaledValue();
+		int digits = value.precision() - 1;
+		return unscaledValue.signum() > 0 && unscaledValue.getLowestSetBit() == digits && unscaledValue.equals(BigInteger.TEN.pow(digits));
+	}
+
+	/**
+	 * Returns 10<sup>exponent</sup> without exponent notation if the digits fit into the precision.
+	 */
+	private static BigDecimal powerOfTen(int exponent, MathContext mathContext) {
+		if (exponent < mathContext.getPrecision()) {
+			return ONE.movePointRight(exponent);
 		}
+		return ONE.scaleByPowerOfTen(exponent);
+	}
 
-		return result.round(mathContext);
+	/**
+	 * Returns k if the positive value is 1/2<sup>k</sup> = 5<sup>k</sup>/10<sup>k</sup>
+	 * with k &lt;= {@link #POW_MAX_SQRT_COUNT}, otherwise 0.
+	 */
+	private static int inversePowerOfTwoExponent(BigDecimal value) {
+		BigDecimal stripped = value.stripTrailingZeros();
+		int k = stripped.scale();
+		if (k <= 0 || k > POW_MAX_SQRT_COUNT) {
+			return 0;
+		}
+		return stripped.unscaledValue().equals(BigInteger.valueOf(5).pow(k)) ? k : 0;
 	}
 
 	/**
@@ -501,36 +738,190 @@ public class BigDecimalMath {
 			throw new ArithmeticException("Illegal sqrt(x) for x < 0: x = " + x);
 		}
 
-		int maxPrecision = mathContext.getPrecision() + 6;
-		BigDecimal acceptableError = ONE.movePointLeft(mathContext.getPrecision() + 1);
+		BigDecimal exactResult = rootExact(x, 2, mathContext);
+		if (exactResult != null) {
+			return exactResult;
+		}
 
-		BigDecimal result;
-		if (isDoubleValue(x)) {
-			result = BigDecimal.valueOf(Math.sqrt(x.doubleValue()));
-		} else {
-			result = x.divide(TWO, mathContext);
+		if (mathContext.getPrecision() >= SQRT_USING_INVERSE_MIN_PRECISION) {
+			return sqrtUsingInverse(x, mathContext);
 		}
-		
-		if (result.multiply(result, mathContext).compareTo(x) == 0) {
-			return result.round(mathContext); // early exit if x is a square number
+
+		double log10Result = log10Approximation(x) / 2;
+		BigDecimal result = pow10Approximation(log10Result);
+		for (int precision : newtonPrecisions(mathContext.getPrecision() + 6, approximationPrecision(log10Result))) {
+			MathContext mc = new MathContext(precision, mathContext.getRoundingMode());
+			result = x.divide(result, mc).add(result, mc).divide(TWO, mc);
+		}
+		return result.round(mathContext);
+	}
+
+	/**
+	 * Calculates the inverse square root 1/sqrt(x) of {@link BigDecimal} x.
+	 * 
+	 * <p>The inverse square root is calculated using Newton's method without any division,
+	 * which is faster than dividing by the result of {@link #sqrt(BigDecimal, MathContext)}.</p>
+	 * 
+	 * <p>See <a href="https://en.wikipedia.org/wiki/Methods_of_computing_square_roots#Iterative_methods_for_reciprocal_square_roots">Wikipedia: Iterative methods for reciprocal square roots</a></p>
+	 * 
+	 * @param x the {@link BigDecimal} value to calculate the inverse square root
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return the calculated inverse square root of x with the precision specified in the <code>mathContext</code>
+	 * @throws ArithmeticException if x &lt;= 0
+	 */
+	public static BigDecimal inverseSqrt(BigDecimal x, MathContext mathContext) {
+		if (x.signum() <= 0) {
+			throw new ArithmeticException("Illegal inverseSqrt(x) for x <= 0: x = " + x);
 		}
 
-		int adaptivePrecision = EXPECTED_INITIAL_PRECISION;
-		BigDecimal last;
+		int exponent = exponent(x);
+		int evenExponent = exponent - Math.floorMod(exponent, 2);
+		BigDecimal mantissa = x.movePointLeft(evenExponent);
 
-		do {
-			last = result;
-			adaptivePrecision = adaptivePrecision * 2;
-			if (adaptivePrecision > maxPrecision) {
-				adaptivePrecision = maxPrecision;
-			}
-			MathContext mc = new MathContext(adaptivePrecision, mathContext.getRoundingMode());
-			result = x.divide(result, mc).add(last, mc).divide(TWO, mc);
-		} while (adaptivePrecision < maxPrecision || result.subtract(last).abs().compareTo(acceptableError) > 0);
-		
-		return result.round(mathContext);
+		int bits = fixedPointBits(mathContext);
+		BigInteger result = inverseSqrtUsingNewton(toFixedPoint(mantissa, bits, mathContext), bits, mantissa.doubleValue());
+		return fromFixedPoint(result, bits, mathContext).scaleByPowerOfTen(-evenExponent / 2);
 	}
-	
+
+	/**
+	 * Calculates sqrt(x) as x * 1/sqrt(x), so that the whole calculation is done without division.
+	 */
+	private static BigDecimal sqrtUsingInverse(BigDecimal x, MathContext mathContext) {
+		int exponent = exponent(x);
+		int evenExponent = exponent - Math.floorMod(exponent, 2);
+		BigDecimal mantissa = x.movePointLeft(evenExponent);
+
+		int bits = fixedPointBits(mathContext);
+		BigInteger fixedPointMantissa = toFixedPoint(mantissa, bits, mathContext);
+		BigInteger inverse = inverseSqrtUsingNewton(fixedPointMantissa, bits, mantissa.doubleValue());
+		BigInteger result = fixedPointMantissa.multiply(inverse).shiftRight(bits);
+		return fromFixedPoint(result, bits, mathContext).scaleByPowerOfTen(evenExponent / 2);
+	}
+
+	/**
+	 * Calculates 1/sqrt(m) using Newton's method y = y + y * (1 - m * y^2) / 2.
+	 * 
+	 * <p>The values are binary fixed point numbers with the specified number of fractional bits,
+	 * so that all roundings are shifts instead of the divisions by powers of ten that {@link BigDecimal} would need.
+	 * The precision is doubled with every step, starting from a double approximation.</p>
+	 *
+	 * @param m the fixed point value in the range [1, 100)
+	 * @param bits the number of fractional bits of m and of the result (at least 2 * {@link #DOUBLE_SEED_BITS})
+	 * @param seed m as double
+	 * @return the fixed point inverse square root
+	 */
+	private static BigInteger inverseSqrtUsingNewton(BigInteger m, int bits, double seed) {
+		int stepCount = 0;
+		for (int stepBits = bits; stepBits > DOUBLE_SEED_BITS; stepBits = stepBits / 2 + NEWTON_GUARD_BITS) {
+			stepCount++;
+		}
+		int[] stepsBits = new int[stepCount];
+		int stepBits = bits;
+		for (int i = stepCount - 1; i >= 0; i--) {
+			stepsBits[i] = stepBits;
+			stepBits = stepBits / 2 + NEWTON_GUARD_BITS;
+		}
+
+		int resultBits = DOUBLE_SEED_BITS;
+		BigInteger result = BigInteger.valueOf((long) (1 / Math.sqrt(seed) * (1L << DOUBLE_SEED_BITS)));
+		for (int nextBits : stepsBits) {
+			BigInteger product = m.shiftRight(bits - nextBits).multiply(result.multiply(result)).shiftRight(2 * resultBits);
+			BigInteger error = BigInteger.ONE.shiftLeft(nextBits).subtract(product);
+			result = result.shiftLeft(nextBits - resultBits).add(result.multiply(error).shiftRight(resultBits + 1));
+			resultBits = nextBits;
+		}
+		return result;
+	}
+
+	private static int fixedPointBits(MathContext mathContext) {
+		int bits = (int) Math.ceil((mathContext.getPrecision() + 2) * LOG2_TEN) + NEWTON_GUARD_BITS;
+		return Math.max(bits, 2 * DOUBLE_SEED_BITS);
+	}
+
+	/**
+	 * Converts the value (rounded to the precision needed by the {@link MathContext}) into a binary fixed point number.
+	 */
+	private static BigInteger toFixedPoint(BigDecimal value, int bits, MathContext mathContext) {
+		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
+		if (value.precision() > mc.getPrecision()) {
+			value = value.round(mc);
+		}
+
+		BigInteger result = value.unscaledValue().shiftLeft(bits);
+		if (value.scale() > 0) {
+			return result.divide(BigInteger.TEN.pow(value.scale()));
+		}
+		return result.multiply(BigInteger.TEN.pow(-value.scale()));
+	}
+
+	private static BigDecimal fromFixedPoint(BigInteger value, int bits, MathContext mathContext) {
+		return new BigDecimal(value).divide(new BigDecimal(BigInteger.ONE.shiftLeft(bits)), mathContext);
+	}
+
+	/**
+	 * Calculates an approximation of log10(x) with double arithmetic.
+	 *
+	 * <p>Only the mantissa is converted to <code>double</code> and the exponent is added,
+	 * so that this works also for values outside of the range of <code>double</code>, for example 1E-500.</p>
+	 */
+	private static double log10Approximation(BigDecimal x) {
+		int exponent = exponent(x);
+		double mantissa = x.round(MathContext.DECIMAL64).movePointLeft(exponent).doubleValue();
+		return Math.log10(mantissa) + exponent;
+	}
+
+	/**
+	 * Calculates an approximation of 10<sup>log10</sup> with double arithmetic,
+	 * also for results outside of the range of <code>double</code>.
+	 *
+	 * <p>The result has {@link #approximationPrecision(double)} correct digits.</p>
+	 */
+	private static BigDecimal pow10Approximation(double log10) {
+		double exponent = Math.floor(log10);
+		return BigDecimal.valueOf(Math.pow(10, log10 - exponent)).scaleByPowerOfTen((int) exponent);
+	}
+
+	/**
+	 * Returns the number of correct digits of {@link #pow10Approximation(double)}.
+	 *
+	 * <p>The absolute error of log10 grows with its magnitude, so the approximations of large and small values have fewer correct digits.</p>
+	 */
+	private static int approximationPrecision(double log10) {
+		return DOUBLE_SEED_PRECISION - (int) Math.ceil(Math.log10(Math.abs(log10) + 1));
+	}
+
+	/**
+	 * Returns the decimal precisions of the steps of a Newton iteration with quadratic convergence,
+	 * ending with the specified precision.
+	 *
+	 * <p>Every step needs half the precision of the next step plus some guard digits.
+	 * The steps start with the first precision that can be reached in a single step from the precision of the initial approximation.</p>
+	 *
+	 * @param precision the precision of the last step
+	 * @param seedPrecision the number of correct digits of the initial approximation
+	 * @return the precisions of all steps in ascending order
+	 */
+	private static int[] newtonPrecisions(int precision, int seedPrecision) {
+		int guardPrecision = (int) Math.ceil(NEWTON_GUARD_BITS / LOG2_TEN);
+
+		int stepCount = 1;
+		for (int stepPrecision = precision; isNewtonStepNeeded(stepPrecision, seedPrecision, guardPrecision); stepPrecision = stepPrecision / 2 + guardPrecision) {
+			stepCount++;
+		}
+		int[] stepsPrecision = new int[stepCount];
+		int stepPrecision = precision;
+		for (int i = stepCount - 1; i >= 0; i--) {
+			stepsPrecision[i] = stepPrecision;
+			stepPrecision = stepPrecision / 2 + guardPrecision;
+		}
+		return stepsPrecision;
+	}
+
+	private static boolean isNewtonStepNeeded(int stepPrecision, int seedPrecision, int guardPrecision) {
+		// the precision of the steps no longer decreases below 2 * guardPrecision
+		return stepPrecision / 2 + guardPrecision > seedPrecision && stepPrecision > 2 * guardPrecision;
+	}
+
 	/**
 	 * Calculates the n'th root of {@link BigDecimal} x.
 	 * 
@@ -554,29 +945,140 @@ public class BigDecimalMath {
 			MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
 			return pow(x, BigDecimal.ONE.divide(n, mc), mathContext);
 		}
-		
-		int maxPrecision = mathContext.getPrecision() + 4;
-		BigDecimal acceptableError = ONE.movePointLeft(mathContext.getPrecision() + 1);
 
-		BigDecimal nMinus1 = n.subtract(ONE);
-		BigDecimal result = x.divide(TWO, MathContext.DECIMAL32);
-		int adaptivePrecision = 2; // first approximation has really bad precision
-		BigDecimal step;
-
-		do {
-			adaptivePrecision = adaptivePrecision * 3;
-			if (adaptivePrecision > maxPrecision) {
-				adaptivePrecision = maxPrecision;
+		if (isIntValue(n)) {
+			BigDecimal exactResult = rootExact(x, n.intValueExact(), mathContext);
+			if (exactResult != null) {
+				return exactResult;
 			}
-			MathContext mc = new MathContext(adaptivePrecision, mathContext.getRoundingMode());
-			
-			step = x.divide(pow(result, nMinus1, mc), mc).subtract(result, mc).divide(n, mc);
+		}
+
+		BigDecimal nMinus1 = n.subtract(ONE);
+		double log10Result = log10Approximation(x) / n.doubleValue();
+		BigDecimal result = pow10Approximation(log10Result);
+		for (int precision : newtonPrecisions(mathContext.getPrecision() + 4, approximationPrecision(log10Result))) {
+			MathContext mc = new MathContext(precision, mathContext.getRoundingMode());
+			BigDecimal step = x.divide(pow(result, nMinus1, mc), mc).subtract(result, mc).divide(n, mc);
 			result = result.add(step, mc);
-		} while (adaptivePrecision < maxPrecision || step.abs().compareTo(acceptableError) > 0);
-		
+		}
 		return result.round(mathContext);
 	}
 
+	/**
+	 * Calculates the exact n'th root of x if x is the n'th power of a decimal value.
+	 * 
+	 * <p>The unscaled value is scaled by a power of ten so that the scale is a multiple of n,
+	 * the integer root is calculated and verified by the exact power.</p>
+	 *
+	 * @return the exact root rounded to the {@link MathContext}, or <code>null</code> if x is not a perfect power
+	 * or the root has more digits than the precision (in which case the iterative calculation is cheaper)
+	 */
+	private static BigDecimal rootExact(BigDecimal x, int n, MathContext mathContext) {
+		x = x.stripTrailingZeros();
+		BigInteger value = x.unscaledValue();
+		int scaleAdjustment = Math.floorMod(-x.scale(), n);
+
+		// 10^scaleAdjustment contributes scaleAdjustment factors of 2
+		if ((value.getLowestSetBit() + scaleAdjustment) % n != 0) {
+			return null;
+		}
+		if (scaleAdjustment > 0) {
+			value = value.multiply(BigInteger.TEN.pow(scaleAdjustment));
+		}
+
+		if (value.bitLength() > n * ((mathContext.getPrecision() + 2) * LOG2_TEN + 1)) {
+			return null;
+		}
+		if (!isPossiblePower(value, n)) {
+			return null;
+		}
+
+		BigInteger root = integerRoot(value, n);
+		if (!root.pow(n).equals(value)) {
+			return null;
+		}
+		return new BigDecimal(root, (x.scale() + scaleAdjustment) / n).round(mathContext);
+	}
+
+	/**
+	 * Returns whether the positive value can be a perfect n'th power.
+	 * 
+	 * <p>A value that is not 0 modulo a prime p is an n'th power residue
+	 * if value<sup>(p-1)/gcd(n, p-1)</sup> = 1 modulo p (Euler's criterion).</p>
+	 */
+	private static boolean isPossiblePower(BigInteger value, int n) {
+		long residues = value.mod(POWER_RESIDUE_MODULUS).longValue();
+		for (long prime : POWER_RESIDUE_PRIMES) {
+			long residue = residues % prime;
+			long gcd = gcd(n, prime - 1);
+			if (residue != 0 && gcd > 1 && modPow(residue, (prime - 1) / gcd, prime) != 1) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long gcd(long a, long b) {
+		while (b != 0) {
+			long remainder = a % b;
+			a = b;
+			b = remainder;
+		}
+		return a;
+	}
+
+	private static long modPow(long base, long exponent, long modulus) {
+		long result = 1;
+		while (exponent > 0) {
+			if ((exponent & 1) != 0) {
+				result = result * base % modulus;
+			}
+			base = base * base % modulus;
+			exponent >>= 1;
+		}
+		return result;
+	}
+
+	/**
+	 * Calculates the floor of the n'th root of the positive value.
+	 * 
+	 * <p>The root of the upper half of the bits is calculated recursively
+	 * and refined with Newton's method r = ((n-1) * r + value / r<sup>n-1</sup>) / n,
+	 * which never goes below the floor of the root after the first step.</p>
+	 */
+	private static BigInteger integerRoot(BigInteger value, int n) {
+		if (value.bitLength() <= DOUBLE_SEED_BITS) {
+			BigInteger result = BigInteger.valueOf((long) Math.pow(value.doubleValue(), 1.0 / n));
+			while (result.pow(n).compareTo(value) > 0) {
+				result = result.subtract(BigInteger.ONE);
+			}
+			while (result.add(BigInteger.ONE).pow(n).compareTo(value) <= 0) {
+				result = result.add(BigInteger.ONE);
+			}
+			return result;
+		}
+
+		int shift = value.bitLength() / n / 2;
+		BigInteger result;
+		if (shift == 0) {
+			// the root has only a few bits, start above it
+			result = BigInteger.ONE.shiftLeft(value.bitLength() / n + 1);
+		} else {
+			result = integerRoot(value.shiftRight(shift * n), n).shiftLeft(shift);
+		}
+
+		BigInteger nMinus1 = BigInteger.valueOf(n - 1);
+		BigInteger bigN = BigInteger.valueOf(n);
+		result = result.multiply(nMinus1).add(value.divide(result.pow(n - 1))).divide(bigN);
+		while (true) {
+			BigInteger next = result.multiply(nMinus1).add(value.divide(result.pow(n - 1))).divide(bigN);
+			if (next.compareTo(result) >= 0) {
+				return result;
+			}
+			result = next;
+		}
+	}
+
 	/**
 	 * Calculates the natural logarithm of {@link BigDecimal} x.
 	 * 
@@ -600,16 +1102,12 @@ public class BigDecimalMath {
 		}
 		
 		BigDecimal result;
-		switch (x.compareTo(TEN)) {
-		case 0:
+		if (x.compareTo(TEN) == 0) {
 			result = logTen(mathContext);
-			break;
-		case 1:
+		} else if (mathContext.getPrecision() >= LOG_USING_AGM_MIN_PRECISION) {
+			result = logUsingAgm(x, mathContext);
+		} else {
 			result = logUsingExponent(x, mathContext);
-			break;
-		default :
-			//result = logUsingTwoThree(x, mathContext);
-			result = logUsingNewton(x, mathContext);
 		}
 
 		return result.round(mathContext);
@@ -649,48 +1147,105 @@ public class BigDecimalMath {
 		// https://en.wikipedia.org/wiki/Natural_logarithm in chapter 'High Precision'
 		// y = y + 2 * (x-exp(y)) / (x+exp(y))
 
-		int maxPrecision = mathContext.getPrecision() + 20;
-		BigDecimal acceptableError = ONE.movePointLeft(mathContext.getPrecision() + 1);
-		//System.out.println("logUsingNewton(" + x + " " + mathContext + ") precision " + maxPrecision);
+		int maxPrecision = mathContext.getPrecision() + 20;
+
+		double logApproximation = log10Approximation(x) * Math.log(10);
+		BigDecimal result = BigDecimal.valueOf(logApproximation);
+		// the absolute error of the approximation is about the same for all x, so results close to 0 have fewer correct digits
+		int seedPrecision = DOUBLE_SEED_PRECISION + Math.min(0, (int) Math.floor(Math.log10(Math.abs(logApproximation))));
+
+		for (int precision : newtonPrecisions(maxPrecision, seedPrecision)) {
+			MathContext mc = new MathContext(precision, mathContext.getRoundingMode());
+			BigDecimal expY = BigDecimalMath.exp(result, mc);
+			BigDecimal step = TWO.multiply(x.subtract(expY, mc), mc).divide(x.add(expY, mc), mc);
+			result = result.add(step);
+		}
+
+		return result;
+	}
+
+	private static BigDecimal logUsingAgmOrNewton(BigDecimal x, MathContext mathContext) {
+		if (mathContext.getPrecision() >= LOG_AGM_FASTER_THAN_NEWTON_PRECISION) {
+			return logUsingAgm(x, mathContext);
+		}
+		return logUsingNewton(x, mathContext);
+	}
+
+	private static BigDecimal logUsingAgm(BigDecimal x, MathContext mathContext) {
+		// https://en.wikipedia.org/wiki/Natural_logarithm in chapter 'High Precision'
+		// ln(x) = pi / (2 * AGM(1, 4/s)) - m * ln(2) with s = x * 2^m > 2^(p/2) for p bits of precision
+		// ln(2) must not be calculated using this method, see log2Cache
+
+		int exponent = exponent(x);
+
+		int precision = mathContext.getPrecision() + logCancellationDigits(x) + 10;
+		int bits = (int) Math.ceil(precision * LOG2_TEN);
+		int m = Math.max(0, bits / 2 + 2 - (int) Math.floor(exponent * LOG2_TEN));
+		precision += (int) Math.ceil(Math.log10(m + 1));
+		MathContext mc = new MathContext(precision, mathContext.getRoundingMode());
 
-		BigDecimal result;
-		int adaptivePrecision;
-		double doubleX = x.doubleValue();
-		if (doubleX > 0.0 && isDoubleValue(x)) {
-			result = BigDecimal.valueOf(Math.log(doubleX));
-			adaptivePrecision = EXPECTED_INITIAL_PRECISION;
-		} else {
-			result = x.divide(TWO, mathContext);
-			adaptivePrecision = 1;
+		BigDecimal s = x.multiply(TWO.pow(m, mc), mc);
+		BigDecimal agm = agm(ONE, valueOf(4).divide(s, mc), mc);
+
+		BigDecimal result = pi(mc).divide(agm.multiply(TWO, mc), mc);
+		if (m > 0) {
+			result = result.subtract(valueOf(m).multiply(logTwo(mc), mc), mc);
 		}
+		return result;
+	}
 
-		BigDecimal step;
-		
-		do {
-			adaptivePrecision = adaptivePrecision * 3;
-			if (adaptivePrecision > maxPrecision) {
-				adaptivePrecision = maxPrecision;
-			}
-			MathContext mc = new MathContext(adaptivePrecision, mathContext.getRoundingMode());
-			
-			BigDecimal expY = BigDecimalMath.exp(result, mc);
-			step = TWO.multiply(x.subtract(expY, mc), mc).divide(x.add(expY, mc), mc);
-			//System.out.println("  step " + step + " adaptivePrecision=" + adaptivePrecision);
-			result = result.add(step);
-		} while (adaptivePrecision < maxPrecision || step.abs().compareTo(acceptableError) > 0);
+	/**
+	 * Calculates the arithmetic-geometric mean of a and b.
+	 * 
+	 * <p>See <a href="https://en.wikipedia.org/wiki/Arithmetic%E2%80%93geometric_mean">Wikipedia: Arithmetic-geometric mean</a></p>
+	 */
+	private static BigDecimal agm(BigDecimal a, BigDecimal b, MathContext mathContext) {
+		BigDecimal acceptableError = ONE.movePointLeft(mathContext.getPrecision() - 1);
+		BigDecimal half = valueOf(5, 1);
+
+		while (a.subtract(b).abs().compareTo(acceptableError.multiply(a)) > 0) {
+			BigDecimal arithmeticMean = a.add(b, mathContext).multiply(half, mathContext);
+			b = sqrtScaled(a.multiply(b, mathContext), mathContext);
+			a = arithmeticMean;
+		}
+		return a;
+	}
 
-		return result;
+	/**
+	 * Calculates the square root of x after scaling x by an even power of ten into the range [1, 100),
+	 * so that the precision of the result does not depend on the magnitude of x.
+	 */
+	private static BigDecimal sqrtScaled(BigDecimal x, MathContext mathContext) {
+		int exponent = exponent(x);
+		int evenExponent = exponent - Math.floorMod(exponent, 2);
+		return sqrt(x.movePointLeft(evenExponent), mathContext).movePointRight(evenExponent / 2);
 	}
 
-	private static BigDecimal logUsingExponent(BigDecimal x, MathContext mathContext) {
-		MathContext mc = new MathContext(mathContext.getPrecision() * 2, mathContext.getRoundingMode());
-		//System.out.println("logUsingExponent(" + x + " " + mathContext + ") precision " + mc);
+	/**
+	 * Returns the number of digits lost by cancellation if log(x) is calculated as the sum of larger logarithms,
+	 * which happens if x is close to 1 and log(x) therefore close to 0.
+	 */
+	private static int logCancellationDigits(BigDecimal x) {
+		BigDecimal xMinusOne = x.subtract(ONE);
+		if (xMinusOne.signum() != 0 && exponent(xMinusOne) < 0) {
+			return -exponent(xMinusOne);
+		}
+		return 0;
+	}
 
+	private static BigDecimal logUsingExponent(BigDecimal x, MathContext mathContext) {
 		int exponent = exponent(x);
 		BigDecimal mantissa = mantissa(x);
 
+		int precision = mathContext.getPrecision() + logCancellationDigits(x) + 4;
+		if (exponent != 0) {
+			precision += (int) Math.ceil(Math.log10(Math.abs(exponent) + 1));
+		}
+		MathContext mc = new MathContext(precision, mathContext.getRoundingMode());
+		//System.out.println("logUsingExponent(" + x + " " + mathContext + ") precision " + mc);
+
 		//BigDecimal result = logUsingTwoThree(mantissa, mc);
-		BigDecimal result = logUsingNewton(mantissa, mc);
+		BigDecimal result = logUsingTable(mantissa, mc);
 		if (exponent != 0) {
 			result = result.add(valueOf(exponent).multiply(logTen(mc), mc), mc);
 		}
@@ -698,70 +1253,59 @@ public class BigDecimalMath {
 	}
 
 	/**
-	 * Returns the number pi.
-	 * 
-	 * <p>See <a href="https://en.wikipedia.org/wiki/Pi">Wikipedia: Pi</a></p>
+	 * Calculates the natural logarithm of x in the range [1, 10).
 	 * 
-	 * @param mathContext the {@link MathContext} used for the result
-	 * @return the number pi with the precision specified in the <code>mathContext</code>
+	 * <p>x is first reduced into the range [1, 2) by dividing by powers of 2
+	 * and then divided by the nearest smaller entry 1 + k/LOG_TABLE_SIZE of a table,
+	 * so that only the logarithm of a value very close to 1 needs to be calculated using the series of atanh().
+	 * The logarithms of the table entries are calculated lazily and cached.</p>
 	 */
-	public static BigDecimal pi(MathContext mathContext) {
-		BigDecimal result = null;
-		
-		synchronized (piCacheLock) {
-			if (piCache != null && mathContext.getPrecision() <= piCache.precision()) {
-				result = piCache;
-			} else {
-				piCache = piChudnovski(mathContext);
-				return piCache;
-			}
+	private static BigDecimal logUsingTable(BigDecimal x, MathContext mathContext) {
+		int powerOfTwo = 0;
+		while (x.compareTo(TWO) >= 0) {
+			x = x.divide(TWO);
+			powerOfTwo++;
 		}
-		
-		return result.round(mathContext);
-	}
-	
-	private static BigDecimal piChudnovski(MathContext mathContext) {
-		MathContext mc = new MathContext(mathContext.getPrecision() + 10, mathContext.getRoundingMode());
 
-		final BigDecimal value24 = BigDecimal.valueOf(24);
-		final BigDecimal value640320 = BigDecimal.valueOf(640320);
-		final BigDecimal value13591409 = BigDecimal.valueOf(13591409);
-		final BigDecimal value545140134 = BigDecimal.valueOf(545140134);
-		final BigDecimal valueDivisor = value640320.pow(3).divide(value24, mc);
+		int k = x.subtract(ONE).multiply(valueOf(LOG_TABLE_SIZE)).intValue();
+		if (k > 0) {
+			// x / (1 + k/n) = x * n / (n + k)
+			x = x.multiply(valueOf(LOG_TABLE_SIZE)).divide(valueOf(LOG_TABLE_SIZE + k), mathContext);
+		}
 
-		BigDecimal sumA = BigDecimal.ONE;
-		BigDecimal sumB = BigDecimal.ZERO;
+		// log(x) = 2 * atanh((x - 1) / (x + 1)) converges fast for x close to 1
+		BigDecimal u = x.subtract(ONE).divide(x.add(ONE), mathContext);
+		BigDecimal result = AtanhCalculator.INSTANCE.calculate(u, mathContext).multiply(TWO, mathContext);
+		if (k > 0) {
+			result = result.add(getLogTableCache(k).get(mathContext), mathContext);
+		}
+		if (powerOfTwo > 0) {
+			result = result.add(valueOf(powerOfTwo).multiply(logTwo(mathContext), mathContext), mathContext);
+		}
+		return result;
+	}
 
-		BigDecimal a = BigDecimal.ONE;
-		long dividendTerm1 = 5; // -(6*k - 5)
-		long dividendTerm2 = -1; // 2*k - 1
-		long dividendTerm3 = -1; // 6*k - 1
-		BigDecimal kPower3 = BigDecimal.ZERO;
-		
-		long iterationCount = (mc.getPrecision()+13) / 14;
-		for (long k = 1; k <= iterationCount; k++) {
-			BigDecimal valueK = BigDecimal.valueOf(k);
-			dividendTerm1 += -6;
-			dividendTerm2 += 2;
-			dividendTerm3 += 6;
-			BigDecimal dividend = BigDecimal.valueOf(dividendTerm1).multiply(BigDecimal.valueOf(dividendTerm2)).multiply(BigDecimal.valueOf(dividendTerm3));
-			kPower3 = valueK.pow(3);
-			BigDecimal divisor = kPower3.multiply(valueDivisor, mc);
-			a = a.multiply(dividend).divide(divisor, mc);
-			BigDecimal b = valueK.multiply(a, mc);
-			
-			sumA = sumA.add(a);
-			sumB = sumB.add(b);
+	private static ConstantCache getLogTableCache(int k) {
+		ConstantCache cache = logTableCaches.get(k);
+		if (cache == null) {
+			BigDecimal value = valueOf(LOG_TABLE_SIZE + k).divide(valueOf(LOG_TABLE_SIZE));
+			logTableCaches.compareAndSet(k, null, new ConstantCache(mathContext -> logUsingAgmOrNewton(value, mathContext)));
+			cache = logTableCaches.get(k);
 		}
-		
-		final BigDecimal value426880 = BigDecimal.valueOf(426880);
-		final BigDecimal value10005 = BigDecimal.valueOf(10005);
-		final BigDecimal factor = value426880.multiply(sqrt(value10005, mc));
-		BigDecimal pi = factor.divide(value13591409.multiply(sumA, mc).add(value545140134.multiply(sumB, mc)), mc);
-		
-		return pi.round(mathContext);
+		return cache;
 	}
 
+	/**
+	 * Returns the number pi.
+	 * 
+	 * <p>See <a href="https://en.wikipedia.org/wiki/Pi">Wikipedia: Pi</a></p>
+	 * 
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return the number pi with the precision specified in the <code>mathContext</code>
+	 */
+	public static BigDecimal pi(MathContext mathContext) {
+		return piCache.get(mathContext);
+	}
 	
 	/**
 	 * Returns the number e.
@@ -772,63 +1316,19 @@ public class BigDecimalMath {
 	 * @return the number e with the precision specified in the <code>mathContext</code>
 	 */
 	public static BigDecimal e(MathContext mathContext) {
-		BigDecimal result = null;
-		
-		synchronized (eCacheLock) {
-			if (eCache != null && mathContext.getPrecision() <= eCache.precision()) {
-				result = eCache;
-			} else {
-				eCache = exp(ONE, mathContext);
-				return eCache;
-			}
-		}
-		
-		return result.round(mathContext);
+		return eCache.get(mathContext);
 	}
 	
 	private static BigDecimal logTen(MathContext mathContext) {
-		BigDecimal result = null;
-		
-		synchronized (log10CacheLock) {
-			if (log10Cache != null && mathContext.getPrecision() <= log10Cache.precision()) {
-				result = log10Cache;
-			} else {
-				log10Cache = logUsingNewton(BigDecimal.TEN, mathContext);
-				return log10Cache;
-			}
-		}
-		
-		return result.round(mathContext);
+		return log10Cache.get(mathContext);
 	}
 	
 	private static BigDecimal logTwo(MathContext mathContext) {
-		BigDecimal result = null;
-		
-		synchronized (log2CacheLock) {
-			if (log2Cache != null && mathContext.getPrecision() <= log2Cache.precision()) {
-				result = log2Cache;
-			} else {
-				log2Cache = logUsingNewton(TWO, mathContext);
-				return log2Cache;
-			}
-		}
-		
-		return result.round(mathContext);
+		return log2Cache.get(mathContext);
 	}
 
 	private static BigDecimal logThree(MathContext mathContext) {
-		BigDecimal result = null;
-		
-		synchronized (log3CacheLock) {
-			if (log3Cache != null && mathContext.getPrecision() <= log3Cache.precision()) {
-				result = log3Cache;
-			} else {
-				log3Cache = logUsingNewton(THREE, mathContext);
-				return log3Cache;
-			}
-		}
-		
-		return result.round(mathContext);
+		return log3Cache.get(mathContext);
 	}
 
 	/**
@@ -859,24 +1359,87 @@ public class BigDecimalMath {
 
 		MathContext mc = new MathContext(mathContext.getPrecision() + 10, mathContext.getRoundingMode());
 
-        BigDecimal z = ONE.add(fractionalPart.divide(integralPart, mc));
-        BigDecimal t = expTaylor(z, mc);
+		int n = integralPart.intValueExact();
+		BigDecimal result = expInteger(Math.abs((long) n), mc);
+		if (n < 0) {
+			result = ONE.divide(result, mc);
+		}
+		if (fractionalPart.signum() != 0) {
+			result = result.multiply(expTaylor(fractionalPart, mc), mc);
+		}
 
-        BigDecimal result = pow(t, integralPart.intValueExact(), mc);
-        
 		return result.round(mathContext);
 	}
+
+	/**
+	 * Calculates e<sup>n</sup> by multiplying the cached powers e<sup>2<sup>k</sup></sup> of the bits set in n.
+	 */
+	private static BigDecimal expInteger(long n, MathContext mathContext) {
+		BigDecimal result = null;
+		for (int k = 0; n != 0; k++, n >>>= 1) {
+			if ((n & 1) != 0) {
+				BigDecimal power = expPowerOfTwoCaches[k].get(mathContext);
+				result = result == null ? power : result.multiply(power, mathContext);
+			}
+		}
+		return result;
+	}
+
+	private static BigDecimal calculateExpPowerOfTwo(int k, MathContext mathContext) {
+		if (k == 0) {
+			return e(mathContext);
+		}
+
+		// one additional digit per squaring compensates the doubling of the relative error
+		MathContext mc = new MathContext(mathContext.getPrecision() + 1, mathContext.getRoundingMode());
+		BigDecimal root = expPowerOfTwoCaches[k - 1].get(mc);
+		return root.multiply(root, mathContext);
+	}
 	
 	private static BigDecimal expTaylor(BigDecimal x, MathContext mathContext) {
-		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
+		// binary splitting of a short argument is faster than the squarings needed after a reduction
+		int halvings = ExpCalculator.INSTANCE.isBinarySplittingPreferred(x, mathContext) ? 0 : reductionSteps(x, 2, mathContext.getPrecision());
+
+		// every squaring doubles the relative error
+		MathContext mc = new MathContext(mathContext.getPrecision() + 6 + (int) (halvings * LOG10_TWO), mathContext.getRoundingMode());
 
-		x = x.divide(valueOf(256), mc);
+		if (halvings > 0) {
+			x = x.divide(TWO.pow(halvings), mc);
+		}
 		
 		BigDecimal result = ExpCalculator.INSTANCE.calculate(x, mc);
-		result = BigDecimalMath.pow(result, 256, mc);
+		for (int i = 0; i < halvings; i++) {
+			result = result.multiply(result, mc);
+		}
 		return result.round(mathContext);
 	}
 
+	/**
+	 * Returns the number of argument reduction steps for a taylor series of x.
+	 * 
+	 * <p>Every step divides the argument by the specified factor and has to be undone after the series has been calculated,
+	 * typically by a full precision multiplication.
+	 * More steps reduce the number of terms of the series, so that the optimal number of steps grows with the precision.</p>
+	 * 
+	 * <p>The number of steps is chosen so that |x| is reduced to below factor<sup>-t</sup>
+	 * where the target t is half the square root of the precision in bits (measured optimum),
+	 * fewer steps are therefore needed for small arguments.</p>
+	 * 
+	 * @param x the argument of the taylor series
+	 * @param factor the factor by which every step reduces the argument
+	 * @param precision the precision of the calculation
+	 * @return the number of reduction steps (0 or positive)
+	 */
+	private static int reductionSteps(BigDecimal x, int factor, int precision) {
+		if (x.signum() == 0) {
+			return 0;
+		}
+		double target = 0.5 * Math.sqrt(precision * LOG2_TEN);
+		double log2Factor = Math.log(factor) / Math.log(2);
+		double log2X = (x.precision() - x.scale()) * LOG2_TEN; // upper bound of log2(|x|)
+		return Math.max(0, (int) Math.ceil((target + log2X) / log2Factor));
+	}
+
 	/**
 	 * Calculates the sine (sinus) of {@link BigDecimal} x.
 	 * 
@@ -889,12 +1452,8 @@ public class BigDecimalMath {
 	public static BigDecimal sin(BigDecimal x, MathContext mathContext) {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
 
-		if (x.abs().compareTo(ROUGHLY_TWO_PI) > 0) {
-			BigDecimal twoPi = TWO.multiply(pi(mc), mc);
-			x = x.remainder(twoPi, mc);
-		}
-
-		BigDecimal result = SinCalculator.INSTANCE.calculate(x, mc);
+		ReducedAngle angle = reduceAngle(x, mc);
+		BigDecimal result = sinOfReducedAngle(angle.r, angle.quadrant, mc);
 		return result.round(mathContext);
 	}
 	
@@ -922,15 +1481,53 @@ public class BigDecimalMath {
 		
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
 
-		if (x.compareTo(BigDecimal.valueOf(0.707107)) >= 0) {
-			BigDecimal xTransformed = sqrt(ONE.subtract(x.multiply(x, mc), mc), mc);
-			return acos(xTransformed, mathContext);
+		if (x.compareTo(ROUGHLY_HALF_SQRT_TWO) >= 0) {
+			// asin(x) = pi/2 - asin(sqrt(1 - x^2))
+			BigDecimal result = pi(mc).multiply(ONE_HALF).subtract(asinOfReducedArgument(complementOfSquare(x, mc), mc), mc);
+			return result.round(mathContext);
 		}
 
-		BigDecimal result = AsinCalculator.INSTANCE.calculate(x, mc);
+		BigDecimal result = asinOfReducedArgument(x, mc);
 		return result.round(mathContext);
 	}
-	
+
+	/**
+	 * Calculates sqrt(1 - x^2) as sqrt((1 - x) * (1 + x)), which does not lose digits for x close to 1.
+	 */
+	private static BigDecimal complementOfSquare(BigDecimal x, MathContext mathContext) {
+		return sqrt(ONE.subtract(x).multiply(ONE.add(x), mathContext), mathContext);
+	}
+
+	/**
+	 * Calculates the arc sine of x in the range [0, sqrt(2)/2].
+	 *
+	 * <p>The taylor series converges faster for smaller arguments, so it is used up to a precision that grows with 1/sqrt(x)
+	 * and for short arguments that prefer binary splitting.
+	 * All others use Newton's method on {@link #sinCos(BigDecimal, MathContext)}, which costs about the same for all arguments.</p>
+	 */
+	private static BigDecimal asinOfReducedArgument(BigDecimal x, MathContext mathContext) {
+		if (mathContext.getPrecision() * Math.sqrt(x.doubleValue()) < ASIN_NEWTON_MIN_PRECISION || AsinCalculator.INSTANCE.isBinarySplittingPreferred(x, mathContext)) {
+			return AsinCalculator.INSTANCE.calculate(x, mathContext);
+		}
+		return asinUsingNewton(x, mathContext);
+	}
+
+	/**
+	 * Calculates the arc sine using Newton's method y = y - (sin(y) - x) / cos(y).
+	 *
+	 * <p>The precision is doubled with every step, starting from the double approximation {@link Math#asin(double)},
+	 * so that the whole calculation costs about two sine and cosine calculations with full precision.</p>
+	 */
+	private static BigDecimal asinUsingNewton(BigDecimal x, MathContext mathContext) {
+		BigDecimal result = BigDecimal.valueOf(Math.asin(x.doubleValue()));
+		for (int precision : newtonPrecisions(mathContext.getPrecision(), DOUBLE_SEED_PRECISION)) {
+			MathContext mc = new MathContext(precision, mathContext.getRoundingMode());
+			BigDecimal[] sinCos = sinCos(result, mc);
+			result = result.subtract(sinCos[0].subtract(x, mc).divide(sinCos[1], mc), mc);
+		}
+		return result;
+	}
+
 	/**
 	 * Calculates the cosine (cosinus) of {@link BigDecimal} x.
 	 * 
@@ -943,15 +1540,176 @@ public class BigDecimalMath {
 	public static BigDecimal cos(BigDecimal x, MathContext mathContext) {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
 
-		if (x.abs().compareTo(ROUGHLY_TWO_PI) > 0) {
-			BigDecimal twoPi = TWO.multiply(pi(mc), mc);
-			x = x.remainder(twoPi, mc);
-		}
-		
-		BigDecimal result = CosCalculator.INSTANCE.calculate(x, mc);
+		// cos(x) = sin(x + pi/2)
+		ReducedAngle angle = reduceAngle(x, mc);
+		BigDecimal result = sinOfReducedAngle(angle.r, angle.quadrant + 1, mc);
 		return result.round(mathContext);
 	}
 
+	/**
+	 * Calculates the sine (sinus) and the cosine (cosinus) of {@link BigDecimal} x together.
+	 *
+	 * <p>The argument is reduced only once and usually only the sine of the reduced argument is calculated with a taylor series.
+	 * The cosine of the reduced argument is calculated as sqrt(1 - sin<sup>2</sup>).
+	 * This is about twice as fast as calling {@link #sin(BigDecimal, MathContext)} and {@link #cos(BigDecimal, MathContext)}.</p>
+	 *
+	 * @param x the {@link BigDecimal} to calculate the sine and cosine for
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return an array with the calculated sine {@link BigDecimal} at index 0 and the calculated cosine {@link BigDecimal} at index 1
+	 * 		with the precision specified in the <code>mathContext</code>
+	 */
+	public static BigDecimal[] sinCos(BigDecimal x, MathContext mathContext) {
+		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
+
+		ReducedAngle angle = reduceAngle(x, mc);
+
+		BigDecimal sin;
+		BigDecimal cos;
+		int halvings = trigonometricHalvings(angle.r, mc);
+		if (halvings > 0) {
+			BigDecimal versine = versine(angle.r, halvings, mc);
+			sin = sinFromVersine(angle.r, versine, mc);
+			cos = ONE.subtract(versine, mc);
+		} else {
+			sin = SinCalculator.INSTANCE.calculate(angle.r, mc);
+			if (angle.r.abs().compareTo(ROUGHLY_QUARTER_PI) <= 0) {
+				// 1 - sin(r)^2 >= 0.5 does not lose precision and cos(r) is positive
+				cos = sqrt(ONE.subtract(sin.multiply(sin, mc), mc), mc);
+			} else {
+				// short argument that was not reduced
+				cos = CosCalculator.INSTANCE.calculate(angle.r, mc);
+			}
+		}
+
+		switch (angle.quadrant) {
+		case 1:
+			return new BigDecimal[] { cos.round(mathContext), sin.negate().round(mathContext) };
+		case 2:
+			return new BigDecimal[] { sin.negate().round(mathContext), cos.negate().round(mathContext) };
+		case 3:
+			return new BigDecimal[] { cos.negate().round(mathContext), sin.round(mathContext) };
+		default:
+			return new BigDecimal[] { sin.round(mathContext), cos.round(mathContext) };
+		}
+	}
+
+	/**
+	 * Calculates sin(r + quadrant * pi/2) for a reduced angle r.
+	 */
+	private static BigDecimal sinOfReducedAngle(BigDecimal r, int quadrant, MathContext mathContext) {
+		int halvings = trigonometricHalvings(r, mathContext);
+		if (halvings > 0) {
+			BigDecimal versine = versine(r, halvings, mathContext);
+			switch (quadrant & 3) {
+			case 1:
+				return ONE.subtract(versine, mathContext);
+			case 2:
+				return sinFromVersine(r, versine, mathContext).negate();
+			case 3:
+				return versine.subtract(ONE, mathContext);
+			default:
+				return sinFromVersine(r, versine, mathContext);
+			}
+		}
+
+		switch (quadrant & 3) {
+		case 1:
+			return CosCalculator.INSTANCE.calculate(r, mathContext);
+		case 2:
+			return SinCalculator.INSTANCE.calculate(r, mathContext).negate();
+		case 3:
+			return CosCalculator.INSTANCE.calculate(r, mathContext).negate();
+		default:
+			return SinCalculator.INSTANCE.calculate(r, mathContext);
+		}
+	}
+
+	/**
+	 * Returns the number of times the reduced angle r is halved before the taylor series is calculated.
+	 *
+	 * <p>The number is chosen like the halvings of the argument of {@link #exp(BigDecimal, MathContext)}.
+	 * Short arguments that prefer binary splitting are not halved.</p>
+	 */
+	private static int trigonometricHalvings(BigDecimal r, MathContext mathContext) {
+		if (SinCalculator.INSTANCE.isBinarySplittingPreferred(r, mathContext)) {
+			return 0;
+		}
+		return reductionSteps(r, 2, mathContext.getPrecision());
+	}
+
+	/**
+	 * Calculates the versine 1 - cos(r) by calculating sin(r / 2<sup>halvings+1</sup>) with the taylor series
+	 * and doubling the angle <code>halvings</code> times.
+	 *
+	 * <p>The double-angle formula is applied to the versine v(a) = 1 - cos(a) = 2 sin<sup>2</sup>(a/2) as v(2a) = 2 v(a) (2 - v(a)).
+	 * Unlike cos(2a) = 2 cos<sup>2</sup>(a) - 1 this does not cancel any digits for small angles,
+	 * so that the relative error of v grows only by the rounding in every step.</p>
+	 *
+	 * <p>See: <a href="https://en.wikipedia.org/wiki/Versine">Wikipedia: Versine</a></p>
+	 */
+	private static BigDecimal versine(BigDecimal r, int halvings, MathContext mathContext) {
+		MathContext mc = new MathContext(mathContext.getPrecision() + 2 + (int) Math.log10(halvings), mathContext.getRoundingMode());
+
+		BigDecimal a = r.divide(TWO.pow(halvings + 1), mc);
+		BigDecimal sin = SinCalculator.INSTANCE.calculate(a, mc);
+		BigDecimal versine = sin.multiply(sin, mc).multiply(TWO);
+		for (int i = 0; i < halvings; i++) {
+			versine = versine.multiply(TWO.subtract(versine), mc).multiply(TWO);
+		}
+		return versine.round(mathContext);
+	}
+
+	/**
+	 * Calculates sin(r) = sqrt(v (2 - v)) with the sign of r from the versine v = 1 - cos(r) for |r| &lt;= pi/2.
+	 */
+	private static BigDecimal sinFromVersine(BigDecimal r, BigDecimal versine, MathContext mathContext) {
+		BigDecimal sin = sqrt(versine.multiply(TWO.subtract(versine), mathContext), mathContext);
+		return r.signum() < 0 ? sin.negate() : sin;
+	}
+
+	/**
+	 * Reduces the argument of the trigonometric functions to a value r in the range [-pi/4, pi/4]
+	 * so that x = r + k * pi/2 for an integer k.
+	 *
+	 * <p>The quotient k is calculated first, so that the subtraction of k * pi/2 only needs pi with enough digits
+	 * to compensate the integral digits of x and the leading digits cancelled in the result.
+	 * Pi is recalculated (or taken from the cache) with more digits if the subtraction cancelled more digits than expected,
+	 * which happens if x is very close to a multiple of pi/2.
+	 * This way huge arguments like 1E+50 are reduced correctly.</p>
+	 *
+	 * <p>Short arguments up to 2 pi are not reduced if the taylor series prefers binary splitting for them,
+	 * because the reduced argument would have as many digits as the precision.</p>
+	 *
+	 * <p>See: <a href="https://en.wikipedia.org/wiki/Trigonometric_functions#Computation">Wikipedia: Trigonometric functions - Computation</a></p>
+	 *
+	 * @param x the argument
+	 * @param mathContext the {@link MathContext} that defines the required absolute precision of r relative to r itself
+	 * @return the reduced angle r with the quadrant k mod 4
+	 */
+	private static ReducedAngle reduceAngle(BigDecimal x, MathContext mathContext) {
+		if (x.abs().compareTo(ROUGHLY_QUARTER_PI) <= 0) {
+			return new ReducedAngle(x, 0);
+		}
+		if (x.abs().compareTo(ROUGHLY_TWO_PI) <= 0 && SinCalculator.INSTANCE.isBinarySplittingPreferred(x, mathContext)) {
+			return new ReducedAngle(x, 0);
+		}
+
+		int integralDigits = Math.max(0, x.precision() - x.scale());
+		int extraDigits = integralDigits;
+		while (true) {
+			MathContext mc = new MathContext(mathContext.getPrecision() + extraDigits + 4, mathContext.getRoundingMode());
+			BigDecimal halfPi = pi(mc).multiply(ONE_HALF);
+			BigInteger k = x.divide(halfPi, new MathContext(integralDigits + 4)).setScale(0, RoundingMode.HALF_EVEN).toBigIntegerExact();
+			BigDecimal r = x.subtract(halfPi.multiply(new BigDecimal(k)), mc);
+
+			int cancelledDigits = r.signum() == 0 ? mc.getPrecision() : Math.max(0, r.scale() - r.precision());
+			if (integralDigits + cancelledDigits <= extraDigits) {
+				return new ReducedAngle(r.round(mathContext), k.intValue() & 3);
+			}
+			extraDigits = integralDigits + cancelledDigits + 4;
+		}
+	}
+
 	/**
 	 * Calculates the arc cosine (inverted cosine) of {@link BigDecimal} x.
 	 * 
@@ -972,7 +1730,16 @@ public class BigDecimalMath {
 
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
 
-		BigDecimal result = pi(mc).divide(TWO, mc).subtract(asin(x, mc), mc);
+		BigDecimal result;
+		if (x.abs().compareTo(ROUGHLY_HALF_SQRT_TWO) >= 0) {
+			// acos(x) = asin(sqrt(1 - x^2)) for x > 0, calculated directly to avoid the cancellation of pi/2 - asin(x)
+			result = asinOfReducedArgument(complementOfSquare(x, mc), mc);
+			if (x.signum() < 0) {
+				result = pi(mc).subtract(result, mc);
+			}
+		} else {
+			result = pi(mc).multiply(ONE_HALF).subtract(asin(x, mc), mc);
+		}
 		return result.round(mathContext);
 	}
 
@@ -991,7 +1758,8 @@ public class BigDecimalMath {
 		}
 
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
-		return sin(x, mc).divide(cos(x, mc), mc).round(mathContext);
+		BigDecimal[] sinCos = sinCos(x, mc);
+		return sinCos[0].divide(sinCos[1], mc).round(mathContext);
 	}
 	
 	/**
@@ -1004,14 +1772,37 @@ public class BigDecimalMath {
 	 * @return the calculated arc tangens {@link BigDecimal} with the precision specified in the <code>mathContext</code>
 	 */
 	public static BigDecimal atan(BigDecimal x, MathContext mathContext) {
-		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
+		int halvings = atanHalvings(x, mathContext);
+		MathContext mc = new MathContext(mathContext.getPrecision() + 6 + (int) Math.log10(halvings + 1), mathContext.getRoundingMode());
 
-		x = x.divide(sqrt(ONE.add(x.multiply(x, mc), mc), mc), mc);
+		// atan(x) = 2 * atan(x / (1 + sqrt(1 + x^2)))
+		for (int i = 0; i < halvings; i++) {
+			x = x.divide(ONE.add(sqrt(ONE.add(x.multiply(x, mc), mc), mc)), mc);
+		}
 
-		BigDecimal result = asin(x, mc);
+		BigDecimal result = AtanCalculator.INSTANCE.calculate(x, mc).multiply(TWO.pow(halvings));
 		return result.round(mathContext);
 	}
 
+	/**
+	 * Returns the number of times the argument of {@link #atan(BigDecimal, MathContext)} is halved before the taylor series is calculated.
+	 *
+	 * <p>Every halving costs a square root and a division, about four times the squaring of {@link #exp(BigDecimal, MathContext)},
+	 * so only half the number of steps of exp() are used (measured).
+	 * Arguments above 0.5 are halved at least twice, so that the series converges fast enough.
+	 * Short arguments that prefer binary splitting are not halved.</p>
+	 */
+	private static int atanHalvings(BigDecimal x, MathContext mathContext) {
+		BigDecimal absX = x.abs();
+		if (absX.compareTo(ONE_HALF) > 0) {
+			return Math.max(2, reductionSteps(absX.min(ONE), 2, mathContext.getPrecision()) / 2);
+		}
+		if (AtanCalculator.INSTANCE.isBinarySplittingPreferred(x, mathContext)) {
+			return 0;
+		}
+		return reductionSteps(absX, 2, mathContext.getPrecision()) / 2;
+	}
+
 	/**
 	 * Calculates the arc tangens (inverted tangens) of {@link BigDecimal} y / x in the range -<i>pi</i> to <i>pi</i>.
 	 *
@@ -1066,7 +1857,8 @@ public class BigDecimalMath {
 		}
 
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
-		BigDecimal result = cos(x, mc).divide(sin(x, mc), mc).round(mathContext);
+		BigDecimal[] sinCos = sinCos(x, mc);
+		BigDecimal result = sinCos[1].divide(sinCos[0], mc).round(mathContext);
 		return result.round(mathContext);
 	}
 
@@ -1096,7 +1888,18 @@ public class BigDecimalMath {
 	 */
 	public static BigDecimal sinh(BigDecimal x, MathContext mathContext) {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
-		BigDecimal result = SinhCalculator.INSTANCE.calculate(x, mc);
+
+		BigDecimal result;
+		if (x.abs().compareTo(ONE) < 0) {
+			result = SinhCalculator.INSTANCE.calculate(x, mc);
+		} else {
+			// sinh(x) = (e^x - e^-x) / 2
+			BigDecimal exp = exp(x.abs(), mc);
+			result = exp.subtract(ONE.divide(exp, mc), mc).multiply(ONE_HALF, mc);
+			if (x.signum() < 0) {
+				result = result.negate();
+			}
+		}
 		return result.round(mathContext);
 	}
 
@@ -1111,10 +1914,53 @@ public class BigDecimalMath {
 	 */
 	public static BigDecimal cosh(BigDecimal x, MathContext mathContext) {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
-		BigDecimal result = CoshCalculator.INSTANCE.calculate(x, mc);
+
+		BigDecimal result;
+		if (x.abs().compareTo(ONE) < 0) {
+			result = CoshCalculator.INSTANCE.calculate(x, mc);
+		} else {
+			// cosh(x) = (e^x + e^-x) / 2
+			BigDecimal exp = exp(x.abs(), mc);
+			result = exp.add(ONE.divide(exp, mc), mc).multiply(ONE_HALF, mc);
+		}
 		return result.round(mathContext);
 	}
 
+	/**
+	 * Calculates the hyperbolic sine and the hyperbolic cosine of {@link BigDecimal} x together.
+	 *
+	 * <p>For |x| &gt;= 1 both are calculated from a single e<sup>|x|</sup>.
+	 * For smaller x, where e<sup>x</sup> - e<sup>-x</sup> would lose precision, usually only the hyperbolic sine is calculated with a taylor series
+	 * and the hyperbolic cosine is calculated as sqrt(1 + sinh<sup>2</sup>).
+	 * This is about as fast as calling {@link #sinh(BigDecimal, MathContext)} alone.</p>
+	 *
+	 * <p>See: <a href="https://en.wikipedia.org/wiki/Hyperbolic_function">Wikipedia: Hyperbolic function</a></p>
+	 *
+	 * @param x the {@link BigDecimal} to calculate the hyperbolic sine and hyperbolic cosine for
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return an array with the calculated hyperbolic sine {@link BigDecimal} at index 0 and the calculated hyperbolic cosine {@link BigDecimal} at index 1
+	 * 		with the precision specified in the <code>mathContext</code>
+	 */
+	public static BigDecimal[] sinhCosh(BigDecimal x, MathContext mathContext) {
+		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
+
+		BigDecimal sinh;
+		BigDecimal cosh;
+		if (x.abs().compareTo(ONE) < 0) {
+			sinh = SinhCalculator.INSTANCE.calculate(x, mc);
+			cosh = coshFromSinh(x, sinh, mc);
+		} else {
+			BigDecimal exp = exp(x.abs(), mc);
+			BigDecimal inverseExp = ONE.divide(exp, mc);
+			sinh = exp.subtract(inverseExp, mc).multiply(ONE_HALF, mc);
+			cosh = exp.add(inverseExp, mc).multiply(ONE_HALF, mc);
+			if (x.signum() < 0) {
+				sinh = sinh.negate();
+			}
+		}
+		return new BigDecimal[] { sinh.round(mathContext), cosh.round(mathContext) };
+	}
+
 	/**
 	 * Calculates the hyperbolic tangens of {@link BigDecimal} x.
 	 * 
@@ -1126,7 +1972,8 @@ public class BigDecimalMath {
 	 */
 	public static BigDecimal tanh(BigDecimal x, MathContext mathContext) {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
-		BigDecimal result = sinh(x, mc).divide(cosh(x, mc), mc);
+		BigDecimal[] fraction = tanhFraction(x, mc);
+		BigDecimal result = fraction[0].divide(fraction[1], mc);
 		return result.round(mathContext);
 	}
 
@@ -1141,10 +1988,43 @@ public class BigDecimalMath {
 	 */
 	public static BigDecimal coth(BigDecimal x, MathContext mathContext) {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
-		BigDecimal result = cosh(x, mc).divide(sinh(x, mc), mc);
+		BigDecimal[] fraction = tanhFraction(x, mc);
+		BigDecimal result = fraction[1].divide(fraction[0], mc);
 		return result.round(mathContext);
 	}
 
+	/**
+	 * Calculates cosh(x) as sqrt(1 + sinh<sup>2</sup>(x)), which does not lose precision.
+	 *
+	 * <p>The taylor series of short arguments that prefer binary splitting is faster than the square root.</p>
+	 */
+	private static BigDecimal coshFromSinh(BigDecimal x, BigDecimal sinh, MathContext mathContext) {
+		if (CoshCalculator.INSTANCE.isBinarySplittingPreferred(x, mathContext)) {
+			return CoshCalculator.INSTANCE.calculate(x, mathContext);
+		}
+		return sqrt(ONE.add(sinh.multiply(sinh, mathContext), mathContext), mathContext);
+	}
+
+	/**
+	 * Calculates the numerator and the denominator of tanh(x) without dividing them.
+	 *
+	 * <p>For |x| &gt;= 0.5 tanh(x) = (e<sup>2x</sup> - 1) / (e<sup>2x</sup> + 1) needs only a single exp(),
+	 * for smaller x tanh(x) = sinh(x) / sqrt(1 + sinh<sup>2</sup>(x)) does not lose precision.</p>
+	 */
+	private static BigDecimal[] tanhFraction(BigDecimal x, MathContext mathContext) {
+		if (x.abs().compareTo(ONE_HALF) < 0) {
+			BigDecimal sinh = SinhCalculator.INSTANCE.calculate(x, mathContext);
+			return new BigDecimal[] { sinh, coshFromSinh(x, sinh, mathContext) };
+		}
+
+		BigDecimal exp = exp(x.abs().multiply(TWO), mathContext);
+		BigDecimal numerator = exp.subtract(ONE, mathContext);
+		if (x.signum() < 0) {
+			numerator = numerator.negate();
+		}
+		return new BigDecimal[] { numerator, exp.add(ONE, mathContext) };
+	}
+
 	/**
 	 * Calculates the arc hyperbolic sine (inverse hyperbolic sine) of {@link BigDecimal} x.
 	 * 
@@ -1155,6 +2035,11 @@ public class BigDecimalMath {
 	 * @return the calculated arc hyperbolic sine {@link BigDecimal} with the precision specified in the <code>mathContext</code>
 	 */
 	public static BigDecimal asinh(BigDecimal x, MathContext mathContext) {
+		if (x.signum() < 0) {
+			// x + sqrt(x^2 + 1) would cancel out for negative x
+			return asinh(x.negate(), mathContext).negate();
+		}
+
 		MathContext mc = new MathContext(mathContext.getPrecision() + 10, mathContext.getRoundingMode());
 		BigDecimal result = log(x.add(sqrt(x.multiply(x, mc).add(ONE, mc), mc), mc), mc);
 		return result.round(mathContext);
@@ -1204,4 +2089,17 @@ public class BigDecimalMath {
 		BigDecimal result = log(x.add(ONE, mc).divide(x.subtract(ONE, mc), mc), mc).divide(TWO, mc);
 		return result.round(mathContext);
 	}
+
+	/**
+	 * The reduced argument r of a trigonometric function and the quadrant k mod 4 of the original argument r + k * pi/2.
+	 */
+	private static class ReducedAngle {
+		final BigDecimal r;
+		final int quadrant;
+
+		ReducedAngle(BigDecimal r, int quadrant) {
+			this.r = r;
+			this.quadrant = quadrant;
+		}
+	}
 }
@@ -248,10 +248,10 @@ public class BigFloat implements Comparable<BigFloat> {
 		 * 
 		 * @param n the value to calculate
 		 * @return the factorial of n with this context (rounded to the precision of this context)
-		 * @see BigDecimalMath#factorial(int)
+		 * @see BigDecimalMath#factorial(int, MathContext)
 		 */
 		public BigFloat factorial(int n) {
-			return valueOf(BigDecimalMath.factorial(n));
+			return valueOf(BigDecimalMath.factorial(n, mathContext));
 		}
 		
 		@Override
@@ -4,9 +4,9 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.IntStream;
+
+import ch.obermuhlner.math.big.internal.PowCalculator;
+import ch.obermuhlner.math.big.internal.PrecisionCache;
 
 /**
  * A rational number represented as a quotient of two values.
@@ -573,12 +573,12 @@ public class BigRational implements Comparable<BigRational> {
 		final BigInteger n;
 		final BigInteger d;
 		if (exponent > 0) {
-			n = numerator.toBigInteger().pow(exponent);
-			d = denominator.toBigInteger().pow(exponent);
+			n = PowCalculator.INSTANCE.pow(numerator.toBigInteger(), exponent, BigInteger::multiply);
+			d = PowCalculator.INSTANCE.pow(denominator.toBigInteger(), exponent, BigInteger::multiply);
 		}
 		else {
-			n = denominator.toBigInteger().pow(-exponent);
-			d = numerator.toBigInteger().pow(-exponent);
+			n = PowCalculator.INSTANCE.pow(denominator.toBigInteger(), -(long) exponent, BigInteger::multiply);
+			d = PowCalculator.INSTANCE.pow(numerator.toBigInteger(), -(long) exponent, BigInteger::multiply);
 		}
 		return valueOf(n, d);
 	}
@@ -1045,7 +1045,11 @@ public class BigRational implements Comparable<BigRational> {
 		return result;
 	}
 
-	private static List<BigRational> bernoulliCache = new ArrayList<>();
+	/**
+	 * The cached Bernoulli numbers B<sub>0</sub>, B<sub>2</sub>, B<sub>4</sub>, ... with the number of cached values as precision.
+	 * Only the longest array is kept, since it contains all shorter ones.
+	 */
+	private static final PrecisionCache<BigRational[]> bernoulliCache = new PrecisionCache<>(1);
 	
 	/**
 	 * Calculates the Bernoulli number for the specified index.
@@ -1054,6 +1058,8 @@ public class BigRational implements Comparable<BigRational> {
 	 * <p>Note that <code>bernoulli(x)</code> for all odd x &gt; 1 returns 0</p>
 	 * <p>See: <a href="https://en.wikipedia.org/wiki/Bernoulli_number">Wikipedia: Bernoulli number</a></p>
 	 * 
+	 * <p>Reading a Bernoulli number that is already cached is lock-free.</p>
+	 * 
 	 * @param n the index of the Bernoulli number to be calculated (starting at 0)
 	 * @return the Bernoulli number for the specified index
 	 * @throws ArithmeticException if x is lesser than 0
@@ -1068,36 +1074,46 @@ public class BigRational implements Comparable<BigRational> {
     		return ZERO;
     	}
     	
-    	synchronized (bernoulliCache) {
-    		int index = n / 2;
-    		
-    		if (bernoulliCache.size() <= index) {
-    			for (int i = bernoulliCache.size(); i <= index; i++) {
-    				BigRational b = calculateBernoulli(i * 2);
-					bernoulliCache.add(b);
-				}
-    		}
-    		
-    		return bernoulliCache.get(index);
-		}
+    	int index = n / 2;
+    	// calculate ahead to the next power of 2, so that callers iterating over increasing n do not recalculate the tangent numbers every time
+    	// and concurrent callers with similar n wait for the same calculation
+    	int length = Math.max(Integer.highestOneBit(index) * 2, 2);
+    	return bernoulliCache.get(length, size -> calculateBernoulliNumbers(size - 1))[index];
     }
-    
-    private static BigRational calculateBernoulli(int n) {
-    	return IntStream.rangeClosed(0, n).parallel().mapToObj(k -> {
-            BigRational jSum = ZERO ;
-            BigRational bin = ONE ;
-            for(int j=0 ; j <= k ; j++) {
-                BigRational jPowN = valueOf(j).pow(n);
-                if (j % 2 == 0) {
-                	jSum = jSum.add(bin.multiply(jPowN)) ;
-                } else {
-                	jSum = jSum.subtract(bin.multiply(jPowN)) ;
-                }
-
-                bin = bin.multiply(valueOf(k-j).divide(valueOf(j+1)));
-            }
-            return jSum.divide(valueOf(k+1));
-    	}).reduce(ZERO, BigRational::add);
+
+    /**
+     * Calculates the Bernoulli numbers B<sub>0</sub>, B<sub>2</sub>, ... B<sub>2n</sub>.
+     *
+     * <p>The even Bernoulli numbers are calculated from the tangent numbers T<sub>k</sub> using
+     * B<sub>2k</sub> = (-1)<sup>k-1</sup> 2k T<sub>k</sub> / (4<sup>k</sup> (4<sup>k</sup> - 1)).
+     * The tangent numbers are calculated with only additions and multiplications by small integers.</p>
+     *
+     * <p>See: Richard P. Brent, David Harvey: Fast computation of Bernoulli, Tangent and Secant numbers (2011)</p>
+     */
+    private static BigRational[] calculateBernoulliNumbers(int n) {
+    	BigInteger[] tangent = new BigInteger[Math.max(n + 1, 2)];
+    	tangent[1] = BigInteger.ONE;
+    	for (int k = 2; k <= n; k++) {
+    		tangent[k] = tangent[k - 1].multiply(BigInteger.valueOf(k - 1));
+    	}
+    	for (int k = 2; k <= n; k++) {
+    		for (int j = k; j <= n; j++) {
+    			tangent[j] = tangent[j - 1].multiply(BigInteger.valueOf(j - k)).add(tangent[j].multiply(BigInteger.valueOf(j - k + 2)));
+    		}
+    	}
+
+    	BigRational[] result = new BigRational[n + 1];
+    	result[0] = ONE;
+    	for (int k = 1; k <= n; k++) {
+    		BigInteger fourPowK = BigInteger.ONE.shiftLeft(2 * k);
+    		BigInteger numerator = tangent[k].multiply(BigInteger.valueOf(2 * k));
+    		if (k % 2 == 0) {
+    			numerator = numerator.negate();
+    		}
+    		BigInteger denominator = fourPowK.multiply(fourPowK.subtract(BigInteger.ONE));
+    		result[k] = valueOf(numerator, denominator).reduce();
+    	}
+    	return result;
     }
 
 }
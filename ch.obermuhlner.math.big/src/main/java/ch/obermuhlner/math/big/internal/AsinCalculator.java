@@ -1,6 +1,7 @@
 package ch.obermuhlner.math.big.internal;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 
 import ch.obermuhlner.math.big.BigRational;
@@ -39,6 +40,12 @@ public class AsinCalculator extends SeriesCalculator {
 		fourPowerN = fourPowerN.multiply(4);
 	}
 	
+	@Override
+	protected BigRational getFactorRatio(int index) {
+		BigInteger twoIndexMinusOne = BigInteger.valueOf(2L * index - 1);
+		return BigRational.valueOf(twoIndexMinusOne.multiply(twoIndexMinusOne), BigInteger.valueOf(2L * index).multiply(BigInteger.valueOf(2L * index + 1)));
+	}
+
 	@Override
 	protected PowerIterator createPowerIterator(BigDecimal x, MathContext mathContext) {
 		return new PowerTwoNPlusOneIterator(x, mathContext);
@@ -0,0 +1,54 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+import ch.obermuhlner.math.big.BigRational;
+
+/**
+ * Calculates arcus tangens using the Maclaurin series.
+ * 
+ * <p>See <a href="https://en.wikipedia.org/wiki/Inverse_trigonometric_functions#Infinite_series">Wikipedia: Inverse trigonometric functions - Infinite series</a></p>
+ * 
+ * <p>The series converges only for |x| &lt; 1, the argument should be reduced to a small value before.</p>
+ * 
+ * <p>No argument checking or optimizations are done.
+ * This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class AtanCalculator extends SeriesCalculator {
+
+	public static final AtanCalculator INSTANCE = new AtanCalculator();
+	
+	private int n = 0;
+	private boolean negative = false;
+	
+	private AtanCalculator() {
+		super(true);
+	}
+	
+	@Override
+	protected BigRational getCurrentFactor() {
+		BigRational factor = BigRational.valueOf(1, 2 * n + 1);
+		if (negative) {
+			factor = factor.negate();
+		}
+		return factor;
+	}
+	
+	@Override
+	protected void calculateNextFactor() {
+		n++;
+		negative = !negative;
+	}
+	
+	@Override
+	protected BigRational getFactorRatio(int index) {
+		return BigRational.valueOf(BigInteger.valueOf(1 - 2L * index), BigInteger.valueOf(2L * index + 1));
+	}
+
+	@Override
+	protected PowerIterator createPowerIterator(BigDecimal x, MathContext mathContext) {
+		return new PowerTwoNPlusOneIterator(x, mathContext);
+	}
+}
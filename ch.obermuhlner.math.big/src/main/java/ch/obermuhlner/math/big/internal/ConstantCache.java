@@ -0,0 +1,58 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.function.Function;
+
+/**
+ * Caches the values of a mathematical constant calculated with several precisions.
+ *
+ * <p>Reading a value that is already cached with sufficient precision is lock-free.
+ * The cached value with the smallest sufficient precision is rounded to the requested precision.</p>
+ *
+ * <p>If no cached value has sufficient precision the constant is calculated and added to the cache.
+ * Concurrent requests for the same precision wait for the same calculation instead of calculating the constant again.</p>
+ *
+ * <p>This class is thread safe.</p>
+ *
+ * @see PrecisionCache
+ */
+public class ConstantCache {
+
+	private static final int DEFAULT_MAX_CACHED_VALUES = 8;
+
+	private final Function<MathContext, BigDecimal> calculation;
+
+	private final PrecisionCache<BigDecimal> cachedValues;
+
+	/**
+	 * Constructs a {@link ConstantCache} with the specified calculation.
+	 *
+	 * @param calculation the function that calculates the constant with the precision specified in the {@link MathContext}
+	 */
+	public ConstantCache(Function<MathContext, BigDecimal> calculation) {
+		this(calculation, DEFAULT_MAX_CACHED_VALUES);
+	}
+
+	/**
+	 * Constructs a {@link ConstantCache} with the specified calculation and the maximum number of values with different precisions to keep.
+	 *
+	 * @param calculation the function that calculates the constant with the precision specified in the {@link MathContext}
+	 * @param maxCachedValues the maximum number of cached values (at least 1)
+	 */
+	public ConstantCache(Function<MathContext, BigDecimal> calculation, int maxCachedValues) {
+		this.calculation = calculation;
+		this.cachedValues = new PrecisionCache<>(maxCachedValues);
+	}
+
+	/**
+	 * Returns the constant with the precision specified in the {@link MathContext}.
+	 *
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return the constant with the precision specified in the <code>mathContext</code>
+	 */
+	public BigDecimal get(MathContext mathContext) {
+		BigDecimal value = cachedValues.get(mathContext.getPrecision(), precision -> calculation.apply(mathContext).round(mathContext));
+		return value.round(mathContext);
+	}
+}
@@ -1,6 +1,7 @@
 package ch.obermuhlner.math.big.internal;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 
 import ch.obermuhlner.math.big.BigRational;
@@ -41,6 +42,11 @@ public class CosCalculator extends SeriesCalculator {
 		negative = !negative;
 	}
 	
+	@Override
+	protected BigRational getFactorRatio(int index) {
+		return BigRational.valueOf(BigInteger.valueOf(-1), BigInteger.valueOf(2L * index - 1).multiply(BigInteger.valueOf(2L * index)));
+	}
+
 	@Override
 	protected PowerIterator createPowerIterator(BigDecimal x, MathContext mathContext) {
 		return new PowerTwoNIterator(x, mathContext);
@@ -1,6 +1,7 @@
 package ch.obermuhlner.math.big.internal;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 
 import ch.obermuhlner.math.big.BigRational;
@@ -36,6 +37,11 @@ public class CoshCalculator extends SeriesCalculator {
 		factorial2n = factorial2n.multiply(2 * n - 1).multiply(2 * n);
 	}
 	
+	@Override
+	protected BigRational getFactorRatio(int index) {
+		return BigRational.valueOf(BigInteger.ONE, BigInteger.valueOf(2L * index - 1).multiply(BigInteger.valueOf(2L * index)));
+	}
+
 	@Override
 	protected PowerIterator createPowerIterator(BigDecimal x, MathContext mathContext) {
 		return new PowerTwoNIterator(x, mathContext);
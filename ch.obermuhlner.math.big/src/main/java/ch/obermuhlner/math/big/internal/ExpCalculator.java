@@ -1,6 +1,7 @@
 package ch.obermuhlner.math.big.internal;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 
 import ch.obermuhlner.math.big.BigRational;
@@ -35,6 +36,11 @@ public class ExpCalculator extends SeriesCalculator {
 		oneOverFactorialOfN = oneOverFactorialOfN.divide(n);
 	}
 
+	@Override
+	protected BigRational getFactorRatio(int index) {
+		return BigRational.valueOf(BigInteger.ONE, BigInteger.valueOf(index));
+	}
+
 	@Override
 	protected PowerIterator createPowerIterator(BigDecimal x, MathContext mathContext) {
 		return new PowerNIterator(x, mathContext);
@@ -0,0 +1,50 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Utility functions for {@link FutureTask}s shared by concurrent callers.
+ */
+class FutureTasks {
+
+	private FutureTasks() {
+		// prevent instances
+	}
+
+	/**
+	 * Waits for the result of a pending calculation.
+	 *
+	 * <p>Interrupts are deferred until the result is available,
+	 * exceptions thrown by the calculation are rethrown unchanged.</p>
+	 *
+	 * @param task the calculation
+	 * @param <T> the type of the result
+	 * @return the result of the calculation
+	 */
+	static <T> T getResult(FutureTask<T> task) {
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					return task.get();
+				} catch (InterruptedException ex) {
+					interrupted = true;
+				} catch (ExecutionException ex) {
+					Throwable cause = ex.getCause();
+					if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					}
+					if (cause instanceof Error) {
+						throw (Error) cause;
+					}
+					throw new IllegalStateException(cause);
+				}
+			}
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
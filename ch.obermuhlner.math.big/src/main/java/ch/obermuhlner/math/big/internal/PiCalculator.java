@@ -0,0 +1,155 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+
+/**
+ * Calculates pi using the Chudnovsky algorithm with binary splitting.
+ *
+ * <p>See <a href="https://en.wikipedia.org/wiki/Chudnovsky_algorithm">Wikipedia: Chudnovsky algorithm</a></p>
+ *
+ * <p>The terms of the series are summed up exactly using {@link BigInteger} arithmetic
+ * by recursively splitting the range of terms into two halves.
+ * Large subranges are calculated in parallel using the common {@link ForkJoinPool}.
+ * Only a single {@link BigDecimal} division is necessary at the end.</p>
+ *
+ * <p>See <a href="https://en.wikipedia.org/wiki/Binary_splitting">Wikipedia: Binary splitting</a></p>
+ *
+ * <p>No argument checking or optimizations are done.
+ * This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class PiCalculator {
+
+	public static final PiCalculator INSTANCE = new PiCalculator();
+
+	private static final BigInteger A = BigInteger.valueOf(13591409);
+	private static final BigInteger B = BigInteger.valueOf(545140134);
+	private static final BigInteger C3_OVER_24 = BigInteger.valueOf(640320).pow(3).divide(BigInteger.valueOf(24));
+
+	private static final double DIGITS_PER_TERM = Math.log10(151931373056000.0); // log10(640320^3 / (24 * 6 * 2 * 6))
+
+	/**
+	 * Ranges of terms smaller than this are calculated sequentially in the current thread.
+	 */
+	private static final int PARALLEL_THRESHOLD = 512;
+
+	private PiCalculator() {
+		// prevent instances
+	}
+
+	/**
+	 * Calculates pi with the precision defined in the {@link MathContext}.
+	 *
+	 * @param mathContext the {@link MathContext}
+	 * @return the calculated pi
+	 */
+	public BigDecimal calculate(MathContext mathContext) {
+		return calculate(mathContext, isParallelPreferred(mathContext));
+	}
+
+	/**
+	 * Returns whether the terms for the precision defined in the {@link MathContext} are calculated in parallel.
+	 *
+	 * @param mathContext the {@link MathContext}
+	 * @return <code>true</code> if the terms are calculated in parallel
+	 */
+	boolean isParallelPreferred(MathContext mathContext) {
+		return termCount(mathContext) > PARALLEL_THRESHOLD;
+	}
+
+	/**
+	 * Calculates pi with the precision defined in the {@link MathContext}, with or without splitting the terms into parallel tasks.
+	 *
+	 * @param mathContext the {@link MathContext}
+	 * @param parallel <code>true</code> to calculate large ranges of terms in parallel
+	 * @return the calculated pi
+	 */
+	BigDecimal calculate(MathContext mathContext, boolean parallel) {
+		MathContext mc = new MathContext(mathContext.getPrecision() + 10, mathContext.getRoundingMode());
+
+		int termCount = termCount(mathContext);
+
+		Split split = parallel
+				? ForkJoinPool.commonPool().invoke(new SplitTask(1, termCount))
+				: split(1, termCount);
+
+		// pi = 426880 * sqrt(10005) * Q / (13591409 * Q + T)
+		BigDecimal numerator = new BigDecimal(split.q.multiply(BigInteger.valueOf(426880)))
+				.multiply(BigDecimalMath.sqrt(BigDecimal.valueOf(10005), mc), mc);
+		BigDecimal denominator = new BigDecimal(A.multiply(split.q).add(split.t));
+		BigDecimal pi = numerator.divide(denominator, mc);
+
+		return pi.round(mathContext);
+	}
+
+	private static int termCount(MathContext mathContext) {
+		return (int) ((mathContext.getPrecision() + 10) / DIGITS_PER_TERM) + 2;
+	}
+
+	/**
+	 * Calculates P, Q and T for the terms in the range [a, b).
+	 */
+	private static Split split(long a, long b) {
+		if (b - a == 1) {
+			BigInteger p = BigInteger.valueOf(6 * a - 5)
+					.multiply(BigInteger.valueOf(2 * a - 1))
+					.multiply(BigInteger.valueOf(6 * a - 1))
+					.negate();
+			BigInteger q = BigInteger.valueOf(a).pow(3).multiply(C3_OVER_24);
+			BigInteger t = p.multiply(A.add(B.multiply(BigInteger.valueOf(a))));
+			return new Split(p, q, t);
+		}
+
+		long m = (a + b) / 2;
+		return split(a, m).merge(split(m, b));
+	}
+
+	private static class SplitTask extends RecursiveTask<Split> {
+		private static final long serialVersionUID = 1L;
+
+		private final long a;
+		private final long b;
+
+		SplitTask(long a, long b) {
+			this.a = a;
+			this.b = b;
+		}
+
+		@Override
+		protected Split compute() {
+			if (b - a <= PARALLEL_THRESHOLD) {
+				return split(a, b);
+			}
+
+			long m = (a + b) / 2;
+			SplitTask left = new SplitTask(a, m);
+			left.fork();
+			Split right = new SplitTask(m, b).compute();
+			return left.join().merge(right);
+		}
+	}
+
+	private static class Split {
+		final BigInteger p;
+		final BigInteger q;
+		final BigInteger t;
+
+		Split(BigInteger p, BigInteger q, BigInteger t) {
+			this.p = p;
+			this.q = q;
+			this.t = t;
+		}
+
+		Split merge(Split right) {
+			return new Split(
+					p.multiply(right.p),
+					q.multiply(right.q),
+					t.multiply(right.q).add(p.multiply(right.t)));
+		}
+	}
+}
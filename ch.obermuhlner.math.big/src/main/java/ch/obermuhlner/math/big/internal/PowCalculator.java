@@ -0,0 +1,133 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.math.BigInteger;
+import java.util.function.BinaryOperator;
+
+/**
+ * Calculates x<sup>n</sup> for positive integer n using sliding window exponentiation.
+ *
+ * <p>The odd powers x, x<sup>3</sup>, ..., x<sup>2<sup>k</sup>-1</sup> are precalculated,
+ * then the bits of n are scanned from the most significant bit,
+ * squaring for every bit and multiplying with a precalculated power for every window of up to k bits that ends with a set bit.
+ * This needs about n.bitLength() / (k + 1) multiplications instead of one for every set bit of n.
+ * The window size k is chosen for every exponent, exponents with few set bits use k = 1 (plain binary exponentiation).</p>
+ *
+ * <p>See <a href="https://en.wikipedia.org/wiki/Exponentiation_by_squaring#Sliding-window_method">Wikipedia: Exponentiation by squaring - Sliding-window method</a></p>
+ *
+ * <p>The same algorithm is used for all types that can be multiplied, the multiplication (including rounding) is passed as function.</p>
+ *
+ * <p>No argument checking or optimizations are done.
+ * This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class PowCalculator {
+
+	public static final PowCalculator INSTANCE = new PowCalculator();
+
+	private static final int MAX_WINDOW_SIZE = 6;
+
+	private PowCalculator() {
+		// prevent instances
+	}
+
+	/**
+	 * Calculates x<sup>n</sup>.
+	 *
+	 * @param x the value to take to the power
+	 * @param n the exponent (&gt; 0)
+	 * @param multiply the function that multiplies two values
+	 * @param <T> the type of the values
+	 * @return the calculated x<sup>n</sup>
+	 */
+	public <T> T pow(T x, long n, BinaryOperator<T> multiply) {
+		return pow(x, BigInteger.valueOf(n), multiply);
+	}
+
+	/**
+	 * Calculates x<sup>n</sup>.
+	 *
+	 * @param x the value to take to the power
+	 * @param n the exponent (&gt; 0)
+	 * @param multiply the function that multiplies two values
+	 * @param <T> the type of the values
+	 * @return the calculated x<sup>n</sup>
+	 */
+	public <T> T pow(T x, BigInteger n, BinaryOperator<T> multiply) {
+		int bitLength = n.bitLength();
+		int windowSize = windowSize(n, bitLength);
+
+		// oddPowers[i] = x^(2*i+1)
+		@SuppressWarnings("unchecked")
+		T[] oddPowers = (T[]) new Object[1 << (windowSize - 1)];
+		oddPowers[0] = x;
+		if (oddPowers.length > 1) {
+			T xSquare = multiply.apply(x, x);
+			for (int i = 1; i < oddPowers.length; i++) {
+				oddPowers[i] = multiply.apply(oddPowers[i - 1], xSquare);
+			}
+		}
+
+		T result = null;
+		int bit = bitLength - 1;
+		while (bit >= 0) {
+			if (!n.testBit(bit)) {
+				result = multiply.apply(result, result);
+				bit--;
+				continue;
+			}
+
+			// longest window [bit, lowestBit] of at most windowSize bits that ends with a set bit
+			int lowestBit = Math.max(bit - windowSize + 1, 0);
+			while (!n.testBit(lowestBit)) {
+				lowestBit++;
+			}
+
+			int windowValue = 0;
+			for (int i = bit; i >= lowestBit; i--) {
+				windowValue = (windowValue << 1) | (n.testBit(i) ? 1 : 0);
+				if (result != null) {
+					result = multiply.apply(result, result);
+				}
+			}
+
+			T windowPower = oddPowers[windowValue >> 1];
+			result = result == null ? windowPower : multiply.apply(result, windowPower);
+			bit = lowestBit - 1;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the window size k that minimizes the 2<sup>k-1</sup> multiplications for the precalculated powers
+	 * plus the multiplications for the windows of n.
+	 *
+	 * <p>The squarings are the same for all window sizes.
+	 * Window size 1 is the plain binary exponentiation, so the result never needs more multiplications than that.</p>
+	 */
+	private static int windowSize(BigInteger n, int bitLength) {
+		int bestWindowSize = 1;
+		int bestCount = windowCount(n, bitLength, 1);
+		for (int windowSize = 2; windowSize <= MAX_WINDOW_SIZE && (1 << (windowSize - 1)) < bestCount; windowSize++) {
+			int count = (1 << (windowSize - 1)) + windowCount(n, bitLength, windowSize);
+			if (count < bestCount) {
+				bestWindowSize = windowSize;
+				bestCount = count;
+			}
+		}
+		return bestWindowSize;
+	}
+
+	private static int windowCount(BigInteger n, int bitLength, int windowSize) {
+		int count = 0;
+		int bit = bitLength - 1;
+		while (bit >= 0) {
+			if (n.testBit(bit)) {
+				count++;
+				bit -= windowSize;
+			} else {
+				bit--;
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,147 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+
+/**
+ * Caches values calculated for several precisions, where a value calculated for a precision can be used for all lower precisions.
+ *
+ * <p>The precision is any measure of the size of the calculation,
+ * for example the number of digits or the number of calculated elements.</p>
+ *
+ * <p>Reading a value that is already cached with sufficient precision is lock-free.
+ * The cached value with the smallest sufficient precision is returned.</p>
+ *
+ * <p>If no cached value has sufficient precision the value is calculated and added to the cache.
+ * Concurrent requests for the same precision wait for the same calculation instead of calculating the value again.
+ * Only the values with the highest precisions are kept, since they can be used for the lower precisions as well.</p>
+ *
+ * <p>This class is thread safe.</p>
+ *
+ * @param <T> the type of the cached values
+ */
+public class PrecisionCache<T> {
+
+	private final int maxCachedValues;
+
+	/**
+	 * The cached values sorted by ascending precision.
+	 * The array is never modified after it was published.
+	 */
+	private final AtomicReference<Entry<T>[]> cachedValues;
+
+	private final ConcurrentMap<Integer, FutureTask<T>> pendingCalculations = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@link PrecisionCache} with the maximum number of values with different precisions to keep.
+	 *
+	 * @param maxCachedValues the maximum number of cached values (at least 1)
+	 */
+	@SuppressWarnings("unchecked")
+	public PrecisionCache(int maxCachedValues) {
+		if (maxCachedValues < 1) {
+			throw new IllegalArgumentException("Illegal maxCachedValues < 1: maxCachedValues = " + maxCachedValues);
+		}
+		this.maxCachedValues = maxCachedValues;
+		this.cachedValues = new AtomicReference<>((Entry<T>[]) new Entry<?>[0]);
+	}
+
+	/**
+	 * Returns the cached value with the smallest precision that is at least the specified precision,
+	 * or calculates and caches the value for the specified precision.
+	 *
+	 * @param precision the precision of the value
+	 * @param calculation the function that calculates the value for the precision
+	 * @return the value with at least the specified precision
+	 */
+	public T get(int precision, IntFunction<T> calculation) {
+		Entry<T> entry = findCachedEntry(precision);
+		if (entry != null) {
+			return entry.value;
+		}
+
+		return calculate(precision, calculation);
+	}
+
+	private Entry<T> findCachedEntry(int precision) {
+		for (Entry<T> entry : cachedValues.get()) {
+			if (entry.precision >= precision) {
+				return entry;
+			}
+		}
+		return null;
+	}
+
+	private T calculate(int precision, IntFunction<T> calculation) {
+		FutureTask<T> task = new FutureTask<>(() -> {
+			// another thread might have finished the same calculation in the meantime
+			Entry<T> entry = findCachedEntry(precision);
+			if (entry != null) {
+				return entry.value;
+			}
+
+			T value = calculation.apply(precision);
+			add(new Entry<>(precision, value));
+			return value;
+		});
+
+		FutureTask<T> pendingTask = pendingCalculations.putIfAbsent(precision, task);
+		if (pendingTask == null) {
+			pendingTask = task;
+			try {
+				task.run();
+			} finally {
+				pendingCalculations.remove(precision, task);
+			}
+		}
+
+		return FutureTasks.getResult(pendingTask);
+	}
+
+	private void add(Entry<T> entry) {
+		Entry<T>[] oldEntries;
+		Entry<T>[] newEntries;
+		do {
+			oldEntries = cachedValues.get();
+			newEntries = insert(oldEntries, entry);
+		} while (!cachedValues.compareAndSet(oldEntries, newEntries));
+	}
+
+	private Entry<T>[] insert(Entry<T>[] entries, Entry<T> entry) {
+		int index = 0;
+		while (index < entries.length && entries[index].precision < entry.precision) {
+			index++;
+		}
+		if (index < entries.length && entries[index].precision == entry.precision) {
+			return entries;
+		}
+
+		@SuppressWarnings("unchecked")
+		Entry<T>[] result = (Entry<T>[]) new Entry<?>[entries.length + 1];
+		System.arraycopy(entries, 0, result, 0, index);
+		result[index] = entry;
+		System.arraycopy(entries, index, result, index + 1, entries.length - index);
+
+		if (result.length > maxCachedValues) {
+			// the values with the lowest precision are the least useful, since the others can be used instead
+			@SuppressWarnings("unchecked")
+			Entry<T>[] truncated = (Entry<T>[]) new Entry<?>[maxCachedValues];
+			System.arraycopy(result, result.length - maxCachedValues, truncated, 0, maxCachedValues);
+			return truncated;
+		}
+		return result;
+	}
+
+	private static class Entry<T> {
+		final int precision;
+		final T value;
+
+		Entry(int precision, T value) {
+			this.precision = precision;
+			this.value = value;
+		}
+	}
+}
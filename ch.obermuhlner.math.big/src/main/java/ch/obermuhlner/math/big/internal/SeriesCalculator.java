@@ -3,22 +3,76 @@ package ch.obermuhlner.math.big.internal;
 import static java.math.BigDecimal.ONE;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import ch.obermuhlner.math.big.BigRational;
 
 /**
  * Utility class to calculate taylor series efficiently until the maximum error (as defined by the precision in the {@link MathContext} is reached.
  * 
- * <p>Stores the factors of the taylor series terms so that future calculations will be faster.</p>
+ * <p>Stores the factors of the taylor series terms so that future calculations will be faster.
+ * The factors are also stored as {@link BigDecimal} values for the most recently used {@link MathContext}s,
+ * so that the calculation of a term does not need a division.
+ * The same cache entry stores the blocks of the rectangular splitting used for higher precisions.</p>
+ * 
+ * <p>This class is thread safe.
+ * The stored factors are read without locking, only the calculation of new factors is synchronized.</p>
  */
 public abstract class SeriesCalculator {
 
+	/**
+	 * Binary splitting is only used for precisions of at least this many digits.
+	 */
+	private static final int BINARY_SPLITTING_MIN_PRECISION = 200;
+
+	/**
+	 * Binary splitting is only used for x with at most this many digits.
+	 */
+	private static final int BINARY_SPLITTING_MAX_DIGITS = 200;
+
+	/**
+	 * Binary splitting is only used if the precision is at least this many times the number of digits of x.
+	 */
+	private static final int BINARY_SPLITTING_DIGITS_RATIO = 20;
+
+	/**
+	 * Rectangular splitting is only used for precisions of at least this many digits,
+	 * below the loop over the cached {@link BigDecimal} factors is faster (measured).
+	 */
+	private static final int RECTANGULAR_SPLITTING_MIN_PRECISION = 20;
+
+	private static final double LOG10_HALF = Math.log10(0.5);
+
+	private static final double LOG10_TWO = Math.log10(2);
+
+	/**
+	 * Maximum number of {@link MathContext}s for which the factors are stored as {@link BigDecimal} values.
+	 */
+	private static final int MAX_CACHED_MATH_CONTEXTS = 8;
+
+	/**
+	 * Maximum number of block layouts of the rectangular splitting stored for every {@link MathContext}.
+	 */
+	private static final int MAX_CACHED_RECTANGULAR_BLOCKS = 8;
+
+	private static final DecimalFactors[] NO_DECIMAL_FACTORS = new DecimalFactors[0];
+
 	private boolean calculateInPairs;
 
-	private List<BigRational> factors = new ArrayList<>();
+	private final Object factorsLock = new Object();
+
+	private volatile Factors factors = new Factors(new BigRational[16], 0);
+
+	/**
+	 * The factors as {@link BigDecimal} values for the recently used {@link MathContext}s.
+	 * The array is never modified after it was published, it is only replaced when a {@link MathContext} is added or evicted.
+	 */
+	private final AtomicReference<DecimalFactors[]> decimalFactors = new AtomicReference<>(NO_DECIMAL_FACTORS);
 	
 	/**
 	 * Constructs a {@link SeriesCalculator} that calculates single terms.
@@ -47,25 +101,44 @@ public abstract class SeriesCalculator {
 	 * @return the calculated result
 	 */
 	public BigDecimal calculate(BigDecimal x, MathContext mathContext) {
+		if (x.signum() == 0) {
+			// only the first term can be different from 0, the rounded decimal factors would add a scale to the result
+			PowerIterator powerIterator = createPowerIterator(x, mathContext);
+			return getFactor(0).toBigDecimal(mathContext).multiply(powerIterator.getCurrentPower(), mathContext);
+		}
+		if (isBinarySplittingPreferred(x, mathContext)) {
+			BigDecimal result = calculateUsingBinarySplitting(x, mathContext);
+			if (result != null) {
+				return result;
+			}
+		}
+		if (isRectangularSplittingPreferred(mathContext)) {
+			BigDecimal result = calculateUsingRectangularSplitting(x, mathContext);
+			if (result != null) {
+				return result;
+			}
+		}
+
 		BigDecimal acceptableError = ONE.movePointLeft(mathContext.getPrecision() + 1);
 
 		PowerIterator powerIterator = createPowerIterator(x, mathContext);
+		DecimalFactors decimalFactors = getDecimalFactors(mathContext);
 		
 		BigDecimal sum = BigDecimal.ZERO;
 		BigDecimal step;
 		int i = 0;
 		do {
-			BigRational factor = getFactor(i);
+			BigDecimal factor = decimalFactors.get(i);
 			BigDecimal xToThePower  = powerIterator.getCurrentPower();
 			powerIterator.calculateNextPower();
-			step = factor.getNumerator().multiply(xToThePower, mathContext).divide(factor.getDenominator(), mathContext);
+			step = factor.multiply(xToThePower, mathContext);
 			i++;
 
 			if (calculateInPairs) {
 				xToThePower  = powerIterator.getCurrentPower();
 				powerIterator.calculateNextPower();
-				factor = getFactor(i);
-				BigDecimal step2 = factor.getNumerator().multiply(xToThePower, mathContext).divide(factor.getDenominator(), mathContext);
+				factor = decimalFactors.get(i);
+				BigDecimal step2 = factor.multiply(xToThePower, mathContext);
 				step = step.add(step2, mathContext);
 				i++;
 			}
@@ -76,7 +149,216 @@ public abstract class SeriesCalculator {
 		
 		return sum.round(mathContext);
 	}
-	
+
+	/**
+	 * Returns whether the series for the specified value x should be summed up exactly using binary splitting.
+	 *
+	 * <p>Binary splitting is only faster if x has few digits compared to the requested precision,
+	 * because the size of the integers grows with the number of digits of x in every term.
+	 * Callers should avoid argument reductions that would make a short x longer.</p>
+	 *
+	 * @param x the value x
+	 * @param mathContext the {@link MathContext}
+	 * @return <code>true</code> if binary splitting is preferred for x
+	 */
+	public boolean isBinarySplittingPreferred(BigDecimal x, MathContext mathContext) {
+		if (x.signum() == 0 || mathContext.getPrecision() < BINARY_SPLITTING_MIN_PRECISION) {
+			return false;
+		}
+		int digits = x.unscaledValue().bitLength() * 3 / 10 + 1; // conservative estimate of the number of digits
+		return digits <= BINARY_SPLITTING_MAX_DIGITS && digits * BINARY_SPLITTING_DIGITS_RATIO <= mathContext.getPrecision();
+	}
+
+	/**
+	 * Returns whether the series is evaluated with rectangular splitting instead of the loop over the cached {@link BigDecimal} factors.
+	 *
+	 * @param mathContext the {@link MathContext}
+	 * @return <code>true</code> if rectangular splitting is preferred
+	 */
+	boolean isRectangularSplittingPreferred(MathContext mathContext) {
+		return mathContext.getPrecision() >= RECTANGULAR_SPLITTING_MIN_PRECISION && getFactorRatio(1) != null;
+	}
+
+	/**
+	 * Calculates the series for the specified value x by summing up the terms exactly using binary splitting.
+	 *
+	 * <p>The terms are expressed by the ratio to the previous term, so that the sum of the first N terms can be written as
+	 * term<sub>0</sub> * (Q + T) / Q where the integers Q and T are calculated by recursively splitting the range of terms into two halves.
+	 * Only a single {@link BigDecimal} division is necessary at the end.</p>
+	 *
+	 * <p>See <a href="https://en.wikipedia.org/wiki/Binary_splitting">Wikipedia: Binary splitting</a></p>
+	 *
+	 * @return the calculated result, or <code>null</code> if this series does not support binary splitting
+	 */
+	private BigDecimal calculateUsingBinarySplitting(BigDecimal x, MathContext mathContext) {
+		if (getFactorRatio(1) == null) {
+			return null;
+		}
+
+		// exact powers x^start and y = x^step of the terms
+		PowerIterator powerIterator = createPowerIterator(x, MathContext.UNLIMITED);
+		BigDecimal xToTheStart = powerIterator.getCurrentPower();
+		powerIterator.calculateNextPower();
+		BigDecimal y = powerIterator.getCurrentPower().divide(xToTheStart);
+
+		BigInteger yNumerator = y.unscaledValue();
+		BigInteger yDenominator = BigInteger.ONE;
+		if (y.scale() > 0) {
+			yDenominator = BigInteger.TEN.pow(y.scale());
+		} else {
+			yNumerator = yNumerator.multiply(BigInteger.TEN.pow(-y.scale()));
+		}
+
+		BigRational firstFactor = getFactor(0);
+		List<BigRational> ratios = getFactorRatios(xToTheStart, y, mathContext);
+		if (ratios == null) {
+			return null;
+		}
+
+		int termCount = ratios.size();
+		List<BigInteger> p = new ArrayList<>(termCount);
+		List<BigInteger> q = new ArrayList<>(termCount);
+		p.add(null); // no ratio for the first term
+		q.add(null);
+		for (int i = 1; i < termCount; i++) {
+			p.add(ratios.get(i).getNumeratorBigInteger().multiply(yNumerator));
+			q.add(ratios.get(i).getDenominatorBigInteger().multiply(yDenominator));
+		}
+
+		Split split = split(p, q, 1, termCount);
+
+		BigDecimal numerator = new BigDecimal(firstFactor.getNumeratorBigInteger().multiply(split.q.add(split.t))).multiply(xToTheStart);
+		BigDecimal denominator = new BigDecimal(firstFactor.getDenominatorBigInteger().multiply(split.q));
+		return numerator.divide(denominator, mathContext);
+	}
+
+	/**
+	 * Calculates the series for the specified value x using rectangular splitting (Paterson-Stockmeyer).
+	 *
+	 * <p>The N terms are grouped in blocks of k = sqrt(N) terms.
+	 * The powers y<sup>1</sup> to y<sup>k</sup> of y = x<sup>step</sup> are calculated once,
+	 * inside a block the powers are only multiplied with integer coefficients derived from the factor ratios
+	 * and the blocks are combined using the Horner scheme with y<sup>k</sup>.
+	 * This needs about 2 * sqrt(N) full precision multiplications instead of 2 * N.</p>
+	 *
+	 * <p>The integer coefficients and the inverse of the common denominator of every block
+	 * are stored with the {@link BigDecimal} factors of the {@link MathContext},
+	 * so that a block needs a multiplication instead of a division.</p>
+	 *
+	 * <p>See <a href="https://doi.org/10.1137/0202007">Paterson, Stockmeyer: On the Number of Nonscalar Multiplications Necessary to Evaluate Polynomials</a></p>
+	 *
+	 * @return the calculated result, or <code>null</code> if this series does not support rectangular splitting
+	 */
+	private BigDecimal calculateUsingRectangularSplitting(BigDecimal x, MathContext mathContext) {
+		if (x.signum() == 0) {
+			return null;
+		}
+
+		PowerIterator powerIterator = createPowerIterator(x, mathContext);
+		BigDecimal xToTheStart = powerIterator.getCurrentPower();
+		powerIterator.calculateNextPower();
+		BigDecimal y = powerIterator.getCurrentPower().divide(xToTheStart, mathContext);
+
+		int termCount = getTermCount(xToTheStart, y, mathContext);
+		if (termCount < 0) {
+			return null;
+		}
+		int blockSize = (int) Math.ceil(Math.sqrt(termCount));
+		int blockCount = (termCount + blockSize - 1) / blockSize;
+
+		DecimalFactors decimalFactors = getDecimalFactors(mathContext);
+		RectangularBlocks blocks = decimalFactors.getRectangularBlocks(blockSize, blockCount);
+
+		BigDecimal[] powers = new BigDecimal[blockSize + 1];
+		powers[0] = ONE;
+		for (int j = 1; j <= blockSize; j++) {
+			powers[j] = powers[j - 1].multiply(y, mathContext);
+		}
+
+		BigDecimal sum = BigDecimal.ZERO;
+		for (int block = blockCount - 1; block >= 0; block--) {
+			BigDecimal[] coefficients = blocks.coefficients[block];
+			BigDecimal blockSum = block == blockCount - 1 ? BigDecimal.ZERO : coefficients[blockSize].multiply(powers[blockSize].multiply(sum, mathContext), mathContext);
+			for (int j = 0; j < blockSize; j++) {
+				blockSum = blockSum.add(coefficients[j].multiply(powers[j], mathContext), mathContext);
+			}
+			sum = blockSum.multiply(blocks.inverseDenominators[block], mathContext);
+		}
+
+		return decimalFactors.get(0).multiply(xToTheStart, mathContext).multiply(sum, mathContext);
+	}
+
+	/**
+	 * Returns the ratios of the factors of the terms that are needed to reach the acceptable error.
+	 *
+	 * @param xToTheStart the power of x in the first term
+	 * @param y the value that the power of x is multiplied with in every term
+	 * @param mathContext the {@link MathContext} defining the acceptable error
+	 * @return the list of ratios starting with <code>null</code> for the first term, or <code>null</code> if the series does not converge fast enough
+	 */
+	private List<BigRational> getFactorRatios(BigDecimal xToTheStart, BigDecimal y, MathContext mathContext) {
+		int termCount = getTermCount(xToTheStart, y, mathContext);
+		if (termCount < 0) {
+			return null;
+		}
+
+		List<BigRational> ratios = new ArrayList<>(termCount);
+		ratios.add(null); // no ratio for the first term
+		for (int i = 1; i < termCount; i++) {
+			ratios.add(getFactorRatio(i));
+		}
+		return ratios;
+	}
+
+	/**
+	 * Returns the number of terms that are needed to reach the acceptable error.
+	 *
+	 * <p>The number of terms is estimated using double arithmetic.
+	 * The terms are counted until they are smaller than the acceptable error and the remaining terms decrease fast enough.</p>
+	 *
+	 * @param xToTheStart the power of x in the first term
+	 * @param y the value that the power of x is multiplied with in every term
+	 * @param mathContext the {@link MathContext} defining the acceptable error
+	 * @return the number of terms, or -1 if the series does not converge fast enough
+	 */
+	private int getTermCount(BigDecimal xToTheStart, BigDecimal y, MathContext mathContext) {
+		double log10Y = log10(y);
+		double log10AcceptableError = -(mathContext.getPrecision() + 2);
+		double log10Term = Math.log10(Math.abs(getFactor(0).toDouble())) + log10(xToTheStart);
+		int maxTermCount = mathContext.getPrecision() * 10 + 100;
+
+		int termCount = 1;
+		double log10Ratio;
+		do {
+			if (termCount > maxTermCount) {
+				return -1;
+			}
+			log10Ratio = Math.log10(Math.abs(getFactorRatio(termCount).toDouble())) + log10Y;
+			log10Term += log10Ratio;
+			termCount++;
+		} while (log10Term > log10AcceptableError || log10Ratio > LOG10_HALF);
+
+		return termCount;
+	}
+
+	private static double log10(BigDecimal value) {
+		BigInteger unscaledValue = value.unscaledValue().abs();
+		int shift = Math.max(0, unscaledValue.bitLength() - 64);
+		return Math.log10(unscaledValue.shiftRight(shift).doubleValue()) + shift * LOG10_TWO - value.scale();
+	}
+
+	/**
+	 * Calculates P, Q and T for the terms in the range [a, b).
+	 */
+	private static Split split(List<BigInteger> p, List<BigInteger> q, int a, int b) {
+		if (b - a == 1) {
+			return new Split(p.get(a), q.get(a), p.get(a));
+		}
+
+		int m = (a + b) >>> 1;
+		return split(p, q, a, m).merge(split(p, q, m, b));
+	}
+
 	/**
 	 * Creates the {@link PowerIterator} used for this series.
 	 * 
@@ -93,18 +375,95 @@ public abstract class SeriesCalculator {
 	 * @return the factor of the specified term
 	 */
 	protected BigRational getFactor(int index) {
-		while (factors.size() <= index) {
-			BigRational factor = getCurrentFactor();
-			factors.add(factor);
-			calculateNextFactor();
+		Factors snapshot = factors;
+		if (index < snapshot.size) {
+			return snapshot.values[index];
+		}
+		return calculateFactors(index);
+	}
+
+	private BigRational calculateFactors(int index) {
+		synchronized (factorsLock) {
+			Factors snapshot = factors;
+			BigRational[] values = snapshot.values;
+			int size = snapshot.size;
+			while (size <= index) {
+				if (size == values.length) {
+					values = Arrays.copyOf(values, values.length * 2);
+				}
+				values[size] = getCurrentFactor();
+				size++;
+				calculateNextFactor();
+			}
+			factors = new Factors(values, size);
+			return values[index];
+		}
+	}
+
+	/**
+	 * Returns the factors as {@link BigDecimal} values with the precision of the specified {@link MathContext}
+	 * and marks them as recently used.
+	 * 
+	 * <p>If factors for more than {@link #MAX_CACHED_MATH_CONTEXTS} different {@link MathContext}s are stored
+	 * the least recently used are discarded.
+	 * The order of use is only approximate, a lookup writes the access time into the found entry instead of reordering the entries.</p>
+	 */
+	private DecimalFactors getDecimalFactors(MathContext mathContext) {
+		DecimalFactors created = null;
+		while (true) {
+			DecimalFactors[] oldEntries = decimalFactors.get();
+			for (DecimalFactors entry : oldEntries) {
+				if (entry.mathContext.equals(mathContext)) {
+					entry.lastAccess = System.nanoTime();
+					return entry;
+				}
+			}
+
+			if (created == null) {
+				created = new DecimalFactors(mathContext);
+			}
+			if (decimalFactors.compareAndSet(oldEntries, insert(oldEntries, created))) {
+				return created;
+			}
+		}
+	}
+
+	private static DecimalFactors[] insert(DecimalFactors[] entries, DecimalFactors entry) {
+		if (entries.length < MAX_CACHED_MATH_CONTEXTS) {
+			DecimalFactors[] result = Arrays.copyOf(entries, entries.length + 1);
+			result[entries.length] = entry;
+			return result;
+		}
+
+		int leastRecentlyUsed = 0;
+		for (int i = 1; i < entries.length; i++) {
+			if (entries[i].lastAccess - entries[leastRecentlyUsed].lastAccess < 0) {
+				leastRecentlyUsed = i;
+			}
+		}
+		DecimalFactors[] result = entries.clone();
+		result[leastRecentlyUsed] = entry;
+		return result;
+	}
+
+	/**
+	 * Returns the {@link MathContext}s for which the factors are stored as {@link BigDecimal} values.
+	 * 
+	 * @return the list of {@link MathContext}s
+	 */
+	List<MathContext> getCachedMathContexts() {
+		List<MathContext> result = new ArrayList<>();
+		for (DecimalFactors entry : decimalFactors.get()) {
+			result.add(entry.mathContext);
 		}
-		return factors.get(index);
+		return result;
 	}
 
 	/**
 	 * Returns the factor of the highest term already calculated.
 	 * <p>When called for the first time will return the factor of the first term (index 0).</p>
 	 * <p>After this call the method {@link #calculateNextFactor()} will be called to prepare for the next term.</p>
+	 * <p>This method is only called by a single thread at a time, implementations do not need to synchronize their state.</p>
 	 * 
 	 * @return the factor of the highest term
 	 */
@@ -112,6 +471,167 @@ public abstract class SeriesCalculator {
 	
 	/**
 	 * Calculates the factor of the next term.
+	 * <p>This method is only called by a single thread at a time, implementations do not need to synchronize their state.</p>
 	 */
 	protected abstract void calculateNextFactor();
+
+	/**
+	 * Returns the ratio of the factor of the term with the specified index to the factor of the previous term.
+	 * <p>Series that can express this ratio as a rational number with small numerator and denominator
+	 * should override this method, so that the series can be summed up exactly using binary splitting for x with few digits.</p>
+	 * <p>The default implementation returns <code>null</code>, which disables binary splitting.</p>
+	 * 
+	 * @param index the index of the term (starting with 1)
+	 * @return the ratio factor(index) / factor(index - 1), or <code>null</code> if not supported
+	 */
+	protected BigRational getFactorRatio(int index) {
+		return null;
+	}
+
+	/**
+	 * The factors as {@link BigDecimal} values with the precision of a specific {@link MathContext}.
+	 * 
+	 * <p>The array of values is never modified after it was published, it is replaced by a larger copy when more factors are needed.</p>
+	 */
+	private class DecimalFactors {
+		final MathContext mathContext;
+
+		/**
+		 * The value of {@link System#nanoTime()} when these factors were last used.
+		 */
+		volatile long lastAccess = System.nanoTime();
+
+		private volatile BigDecimal[] values = new BigDecimal[0];
+
+		private volatile RectangularBlocks[] rectangularBlocks = new RectangularBlocks[0];
+
+		DecimalFactors(MathContext mathContext) {
+			this.mathContext = mathContext;
+		}
+
+		RectangularBlocks getRectangularBlocks(int blockSize, int blockCount) {
+			for (RectangularBlocks blocks : rectangularBlocks) {
+				if (blocks.blockSize == blockSize && blocks.blockCount == blockCount) {
+					return blocks;
+				}
+			}
+
+			RectangularBlocks blocks = new RectangularBlocks(blockSize, blockCount, mathContext);
+			synchronized (this) {
+				RectangularBlocks[] snapshot = rectangularBlocks;
+				RectangularBlocks[] extended;
+				if (snapshot.length < MAX_CACHED_RECTANGULAR_BLOCKS) {
+					extended = Arrays.copyOf(snapshot, snapshot.length + 1);
+				} else {
+					// the oldest layout is replaced
+					extended = Arrays.copyOfRange(snapshot, 1, snapshot.length + 1);
+				}
+				extended[extended.length - 1] = blocks;
+				rectangularBlocks = extended;
+			}
+			return blocks;
+		}
+
+		BigDecimal get(int index) {
+			BigDecimal[] snapshot = values;
+			if (index < snapshot.length) {
+				return snapshot[index];
+			}
+
+			synchronized (this) {
+				snapshot = values;
+				if (index >= snapshot.length) {
+					BigDecimal[] extended = Arrays.copyOf(snapshot, index + 1);
+					for (int i = snapshot.length; i < extended.length; i++) {
+						extended[i] = getFactor(i).toBigDecimal(mathContext);
+					}
+					values = extended;
+					snapshot = extended;
+				}
+				return snapshot[index];
+			}
+		}
+	}
+
+	/**
+	 * The blocks of a rectangular splitting with a specific block size and number of blocks.
+	 * 
+	 * <p>The sum of the terms in block b is the sum of coefficients[b][j] * y<sup>j</sup> multiplied with inverseDenominators[b]
+	 * and the value of the following blocks, multiplied with coefficients[b][blockSize] * y<sup>blockSize</sup>.</p>
+	 */
+	private class RectangularBlocks {
+		final int blockSize;
+		final int blockCount;
+		final BigDecimal[][] coefficients;
+		final BigDecimal[] inverseDenominators;
+
+		RectangularBlocks(int blockSize, int blockCount, MathContext mathContext) {
+			this.blockSize = blockSize;
+			this.blockCount = blockCount;
+			this.coefficients = new BigDecimal[blockCount][];
+			this.inverseDenominators = new BigDecimal[blockCount];
+
+			for (int block = 0; block < blockCount; block++) {
+				int start = block * blockSize;
+				int ratioCount = block == blockCount - 1 ? blockSize - 1 : blockSize;
+
+				// coefficient[j] / denominator = ratio[start+1] * ... * ratio[start+j]
+				BigInteger[] numerators = new BigInteger[ratioCount + 1];
+				BigInteger numeratorProduct = BigInteger.ONE;
+				for (int j = 0; j <= ratioCount; j++) {
+					if (j > 0) {
+						numeratorProduct = numeratorProduct.multiply(getFactorRatio(start + j).getNumeratorBigInteger());
+					}
+					numerators[j] = numeratorProduct;
+				}
+				BigDecimal[] blockCoefficients = new BigDecimal[ratioCount + 1];
+				BigInteger denominator = BigInteger.ONE;
+				for (int j = ratioCount; j >= 0; j--) {
+					blockCoefficients[j] = new BigDecimal(numerators[j].multiply(denominator));
+					if (j > 0) {
+						denominator = denominator.multiply(getFactorRatio(start + j).getDenominatorBigInteger());
+					}
+				}
+
+				coefficients[block] = blockCoefficients;
+				inverseDenominators[block] = ONE.divide(new BigDecimal(denominator), mathContext);
+			}
+		}
+	}
+
+	/**
+	 * Immutable snapshot of the calculated factors.
+	 * 
+	 * <p>Only the first <code>size</code> elements of the array are published.
+	 * The array is shared with later snapshots that append elements after <code>size</code>,
+	 * but the published elements are never modified.</p>
+	 */
+	private static class Factors {
+		final BigRational[] values;
+		final int size;
+
+		Factors(BigRational[] values, int size) {
+			this.values = values;
+			this.size = size;
+		}
+	}
+
+	private static class Split {
+		final BigInteger p;
+		final BigInteger q;
+		final BigInteger t;
+
+		Split(BigInteger p, BigInteger q, BigInteger t) {
+			this.p = p;
+			this.q = q;
+			this.t = t;
+		}
+
+		Split merge(Split right) {
+			return new Split(
+					p.multiply(right.p),
+					q.multiply(right.q),
+					t.multiply(right.q).add(p.multiply(right.t)));
+		}
+	}
 }
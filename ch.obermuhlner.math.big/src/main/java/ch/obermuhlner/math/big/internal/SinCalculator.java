@@ -1,6 +1,7 @@
 package ch.obermuhlner.math.big.internal;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 
 import ch.obermuhlner.math.big.BigRational;
@@ -42,6 +43,11 @@ public class SinCalculator extends SeriesCalculator {
 		negative = !negative;
 	}
 	
+	@Override
+	protected BigRational getFactorRatio(int index) {
+		return BigRational.valueOf(BigInteger.valueOf(-1), BigInteger.valueOf(2L * index).multiply(BigInteger.valueOf(2L * index + 1)));
+	}
+
 	@Override
 	protected PowerIterator createPowerIterator(BigDecimal x, MathContext mathContext) {
 		return new PowerTwoNPlusOneIterator(x, mathContext);
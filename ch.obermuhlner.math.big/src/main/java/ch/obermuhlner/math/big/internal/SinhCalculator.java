@@ -1,6 +1,7 @@
 package ch.obermuhlner.math.big.internal;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 
 import ch.obermuhlner.math.big.BigRational;
@@ -37,6 +38,11 @@ public class SinhCalculator extends SeriesCalculator {
 		factorial2nPlus1 = factorial2nPlus1.multiply(2 * n + 1);
 	}
 	
+	@Override
+	protected BigRational getFactorRatio(int index) {
+		return BigRational.valueOf(BigInteger.ONE, BigInteger.valueOf(2L * index).multiply(BigInteger.valueOf(2L * index + 1)));
+	}
+
 	@Override
 	protected PowerIterator createPowerIterator(BigDecimal x, MathContext mathContext) {
 		return new PowerTwoNPlusOneIterator(x, mathContext);
@@ -0,0 +1,258 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+
+/**
+ * Calculates the factorial using Spouge's approximation.
+ *
+ * <p>See <a href="https://en.wikipedia.org/wiki/Spouge%27s_approximation">Wikipedia: Spouge's approximation</a></p>
+ *
+ * <p>x! = (x+a)<sup>x+1/2</sup> e<sup>-(x+a)</sup> (c<sub>0</sub> + &sum; c<sub>k</sub> / (x+k))</p>
+ *
+ * <p>The constants c<sub>k</sub> = (-1)<sup>k-1</sup> (a-k)<sup>k-1/2</sup> e<sup>a-k</sup> / (k-1)! are independent of each other,
+ * so ranges of constants are calculated in parallel using the common {@link ForkJoinPool}.
+ * Within a range e<sup>a-k</sup> and (k-1)! are updated with a single multiplication per constant
+ * and (a-k)<sup>k-1/2</sup> is calculated as the exact integer power (a-k)<sup>k-1</sup> multiplied with sqrt(a-k).</p>
+ *
+ * <p>The constants are cached for several values of a.
+ * A cached set with a slightly larger a is at least as accurate and is reused instead of calculating a new set.
+ * Concurrent requests for the same set wait for the same calculation,
+ * requests for other sets are not blocked.
+ * If the cached sets exceed {@link #MAX_CACHED_DIGITS} the least recently used sets are evicted.</p>
+ *
+ * <p>No argument checking or optimizations are done.
+ * This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class SpougeCalculator {
+
+	public static final SpougeCalculator INSTANCE = new SpougeCalculator();
+
+	private static final int GUARD_DIGITS = 5;
+
+	private static final BigDecimal ONE_HALF = new BigDecimal("0.5");
+
+	/**
+	 * Ranges of constants smaller than this are calculated sequentially in the current thread.
+	 */
+	private static final int PARALLEL_THRESHOLD = 16;
+
+	/**
+	 * The maximum total number of digits of all cached constants (the set for a precision of 1000 digits has about 2.5 million digits).
+	 */
+	static final long MAX_CACHED_DIGITS = 4_000_000;
+
+	private final ConcurrentNavigableMap<Integer, Entry> constantsCache = new ConcurrentSkipListMap<>();
+	private final AtomicLong cachedDigits = new AtomicLong();
+	private final AtomicLong accessCounter = new AtomicLong();
+
+	private SpougeCalculator() {
+		// prevent instances
+	}
+
+	/**
+	 * Calculates x! for x &gt;= 0.
+	 *
+	 * <p>The sum of c<sub>k</sub> / (x+k) cancels about a / 2 digits and is calculated with twice the precision,
+	 * the power and the exponential function only need the precision of the result.</p>
+	 *
+	 * @param x the argument
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return x!
+	 */
+	public BigDecimal factorial(BigDecimal x, MathContext mathContext) {
+		List<BigDecimal> constants = getConstants(a(mathContext));
+
+		// a cached set of constants for a higher precision might be reused
+		int a = constants.size();
+		MathContext sumContext = new MathContext(Math.max(mathContext.getPrecision() * 2, a * 20 / 13), mathContext.getRoundingMode());
+		MathContext mc = new MathContext(mathContext.getPrecision() + GUARD_DIGITS, mathContext.getRoundingMode());
+
+		BigDecimal factor = constants.get(0);
+		for (int k = 1; k < a; k++) {
+			factor = factor.add(constants.get(k).divide(x.add(BigDecimal.valueOf(k)), sumContext), sumContext);
+		}
+
+		BigDecimal xPlusA = x.add(BigDecimal.valueOf(a));
+		BigDecimal result = BigDecimalMath.pow(xPlusA, x.add(ONE_HALF), mc);
+		result = result.multiply(BigDecimalMath.exp(xPlusA.negate(), mc), mc);
+		result = result.multiply(factor, mc);
+
+		return result.round(mathContext);
+	}
+
+	/**
+	 * Calculates the constants needed for the specified precision.
+	 *
+	 * @param mathContext the {@link MathContext}
+	 */
+	public void precompute(MathContext mathContext) {
+		getConstants(a(mathContext));
+	}
+
+	private static int a(MathContext mathContext) {
+		return mathContext.getPrecision() * 13 / 10;
+	}
+
+	/**
+	 * Returns the constants c<sub>0</sub> to c<sub>n-1</sub> of Spouge's approximation with n &gt;= a.
+	 *
+	 * <p>The returned set can be larger than requested if a cached set with a slightly larger a exists.
+	 * The size of the returned list must be used as a in Spouge's approximation.</p>
+	 *
+	 * @param a the minimum number of constants
+	 * @return the unmodifiable list of constants, calculated with a precision of 1.5 * n digits
+	 */
+	public List<BigDecimal> getConstants(int a) {
+		Map.Entry<Integer, Entry> cached = constantsCache.ceilingEntry(a);
+		Entry entry = cached != null && cached.getKey() <= maxReusable(a) ? cached.getValue() : null;
+
+		if (entry == null) {
+			Entry newEntry = new Entry(a);
+			entry = constantsCache.putIfAbsent(a, newEntry);
+			if (entry == null) {
+				entry = newEntry;
+				cachedDigits.addAndGet(entry.digits);
+				evictLeastRecentlyUsed(entry);
+				entry.task.run();
+			}
+		}
+		entry.lastAccess = accessCounter.incrementAndGet();
+
+		try {
+			return FutureTasks.getResult(entry.task);
+		} catch (RuntimeException | Error ex) {
+			// do not cache the failure, so that the next call calculates the constants again
+			remove(entry);
+			throw ex;
+		}
+	}
+
+	/**
+	 * The largest a of a cached set that is reused instead of calculating the set for a.
+	 *
+	 * <p>Larger sets are more accurate, but every constant is another term to sum up in the approximation.</p>
+	 */
+	private static int maxReusable(int a) {
+		return a + a / 8;
+	}
+
+	private void evictLeastRecentlyUsed(Entry keep) {
+		while (cachedDigits.get() > MAX_CACHED_DIGITS) {
+			Entry leastRecentlyUsed = null;
+			for (Entry entry : constantsCache.values()) {
+				if (entry != keep && (leastRecentlyUsed == null || entry.lastAccess < leastRecentlyUsed.lastAccess)) {
+					leastRecentlyUsed = entry;
+				}
+			}
+			if (leastRecentlyUsed == null) {
+				return;
+			}
+			remove(leastRecentlyUsed);
+		}
+	}
+
+	private void remove(Entry entry) {
+		if (constantsCache.remove(entry.a, entry)) {
+			cachedDigits.addAndGet(-entry.digits);
+		}
+	}
+
+	private static class Entry {
+		final int a;
+		final long digits;
+		final FutureTask<List<BigDecimal>> task;
+		volatile long lastAccess;
+
+		Entry(int a) {
+			this.a = a;
+			this.digits = (long) a * (a * 15 / 10);
+			this.task = new FutureTask<>(() -> calculateConstants(a));
+		}
+	}
+
+	private static List<BigDecimal> calculateConstants(int a) {
+		MathContext mathContext = new MathContext(a * 15 / 10);
+		// the relative error of e^(a-k) grows with every multiplication
+		MathContext mc = new MathContext(mathContext.getPrecision() + PARALLEL_THRESHOLD / 4 + 2, mathContext.getRoundingMode());
+
+		BigDecimal[] constants = new BigDecimal[a];
+		constants[0] = BigDecimalMath.sqrt(BigDecimalMath.pi(mc).multiply(BigDecimal.valueOf(2), mc), mathContext);
+
+		BigDecimal inverseE = BigDecimal.ONE.divide(BigDecimalMath.e(mc), mc);
+		if (a - 1 > PARALLEL_THRESHOLD) {
+			ForkJoinPool.commonPool().invoke(new ConstantsTask(constants, 1, a, inverseE, mc, mathContext));
+		} else {
+			calculateConstants(constants, 1, a, inverseE, mc, mathContext);
+		}
+
+		return Collections.unmodifiableList(Arrays.asList(constants));
+	}
+
+	/**
+	 * Calculates the constants in the range [start, end).
+	 */
+	private static void calculateConstants(BigDecimal[] constants, int start, int end, BigDecimal inverseE, MathContext mc, MathContext mathContext) {
+		int a = constants.length;
+		BigDecimal exp = BigDecimalMath.exp(BigDecimal.valueOf(a - start), mc);
+		BigDecimal factorial = BigDecimalMath.factorial(start - 1);
+
+		for (int k = start; k < end; k++) {
+			BigDecimal power = new BigDecimal(BigInteger.valueOf(a - k).pow(k - 1)).multiply(BigDecimalMath.sqrt(BigDecimal.valueOf(a - k), mc), mc);
+			BigDecimal ck = power.multiply(exp, mc).divide(factorial, mc);
+			if (k % 2 == 0) {
+				ck = ck.negate();
+			}
+			constants[k] = ck.round(mathContext);
+
+			exp = exp.multiply(inverseE, mc);
+			factorial = factorial.multiply(BigDecimal.valueOf(k));
+		}
+	}
+
+	private static class ConstantsTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final BigDecimal[] constants;
+		private final int start;
+		private final int end;
+		private final BigDecimal inverseE;
+		private final MathContext mc;
+		private final MathContext mathContext;
+
+		ConstantsTask(BigDecimal[] constants, int start, int end, BigDecimal inverseE, MathContext mc, MathContext mathContext) {
+			this.constants = constants;
+			this.start = start;
+			this.end = end;
+			this.inverseE = inverseE;
+			this.mc = mc;
+			this.mathContext = mathContext;
+		}
+
+		@Override
+		protected void compute() {
+			if (end - start <= PARALLEL_THRESHOLD) {
+				calculateConstants(constants, start, end, inverseE, mc, mathContext);
+				return;
+			}
+
+			int middle = (start + end) / 2;
+			invokeAll(
+					new ConstantsTask(constants, start, middle, inverseE, mc, mathContext),
+					new ConstantsTask(constants, middle, end, inverseE, mc, mathContext));
+		}
+	}
+}
@@ -0,0 +1,261 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+import ch.obermuhlner.math.big.BigRational;
+
+/**
+ * Calculates the gamma function and its logarithm using the Stirling series.
+ *
+ * <p>See <a href="https://en.wikipedia.org/wiki/Stirling%27s_approximation">Wikipedia: Stirling's approximation</a></p>
+ *
+ * <p>ln(&Gamma;(z)) = (z - 1/2) ln(z) - z + ln(2&pi;) / 2 + &sum; B<sub>2k</sub> / (2k (2k-1) z<sup>2k-1</sup>)</p>
+ *
+ * <p>The series is asymptotic, the smallest term is about e<sup>-2&pi;z</sup>.
+ * Arguments that are too small for the requested precision are shifted with
+ * &Gamma;(x) = &Gamma;(x+m) / (x (x+1) ... (x+m-1)).</p>
+ *
+ * <p>The coefficients B<sub>2k</sub> / (2k (2k-1)) of the series are cached as {@link BigDecimal} for several precisions,
+ * reading them is lock-free.
+ * The coefficients with the smallest sufficient precision are used, so that every term needs only a multiplication.</p>
+ *
+ * <p>No argument checking or optimizations are done.
+ * This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class StirlingCalculator {
+
+	public static final StirlingCalculator INSTANCE = new StirlingCalculator();
+
+	private static final int GUARD_DIGITS = 5;
+
+	private static final int MAX_CACHED_COEFFICIENTS = 8;
+
+	private final ConstantCache halfLogTwoPiCache = new ConstantCache(mathContext ->
+			BigDecimalMath.log(BigDecimalMath.pi(mathContext).multiply(BigDecimal.valueOf(2), mathContext), mathContext).divide(BigDecimal.valueOf(2), mathContext));
+
+	/**
+	 * The coefficients for several numbers of digits after the decimal point.
+	 */
+	private final PrecisionCache<BigDecimal[]> coefficientsCache = new PrecisionCache<>(MAX_CACHED_COEFFICIENTS);
+
+	private StirlingCalculator() {
+		// prevent instances
+	}
+
+	/**
+	 * Returns the smallest argument of the Stirling series for the specified number of digits.
+	 *
+	 * <p>Smaller arguments are shifted up to this value.
+	 * The smallest term of the series is about 10<sup>-2.7 z</sup>,
+	 * larger arguments need fewer terms but the shift needs more multiplications.</p>
+	 *
+	 * @param precision the number of digits
+	 * @return the smallest argument
+	 */
+	public static int minArgument(int precision) {
+		return (precision + GUARD_DIGITS) * 3 / 4 + 1;
+	}
+
+	/**
+	 * Calculates &Gamma;(x) for x that is not 0 or a negative integer.
+	 *
+	 * <p>Negative arguments that would need a large shift are calculated with the reflection formula
+	 * &Gamma;(x) = &pi; / (sin(&pi;x) &Gamma;(1-x)).</p>
+	 *
+	 * @param x the argument
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return &Gamma;(x)
+	 */
+	public BigDecimal gamma(BigDecimal x, MathContext mathContext) {
+		int precision = mathContext.getPrecision() + GUARD_DIGITS;
+		if (x.compareTo(BigDecimal.valueOf(-minArgument(precision))) < 0) {
+			return gammaUsingReflection(x, mathContext);
+		}
+
+		int shift = shift(x, precision);
+		MathContext mc = new MathContext(precision + digits(shift), mathContext.getRoundingMode());
+
+		BigDecimal z = x.add(BigDecimal.valueOf(shift));
+		BigDecimal result = BigDecimalMath.exp(logGammaOfLargeArgument(z, precision), mc);
+		if (shift > 0) {
+			result = result.divide(risingFactorial(x, shift, mc), mc);
+		}
+		return result.round(mathContext);
+	}
+
+	private BigDecimal gammaUsingReflection(BigDecimal x, MathContext mathContext) {
+		MathContext mc = new MathContext(mathContext.getPrecision() + GUARD_DIGITS, mathContext.getRoundingMode());
+
+		// sin(pi x) = (-1)^n sin(pi (x - n)) is calculated with the exact distance to the nearest integer n
+		BigDecimal nearestInteger = x.setScale(0, RoundingMode.HALF_EVEN);
+		BigDecimal pi = BigDecimalMath.pi(mc);
+		BigDecimal sin = BigDecimalMath.sin(pi.multiply(x.subtract(nearestInteger), mc), mc);
+		if (nearestInteger.toBigInteger().testBit(0)) {
+			sin = sin.negate();
+		}
+
+		BigDecimal result = pi.divide(sin.multiply(gamma(BigDecimal.ONE.subtract(x), mc), mc), mc);
+		return result.round(mathContext);
+	}
+
+	/**
+	 * Calculates the coefficients and constants needed for the specified precision.
+	 *
+	 * @param mathContext the {@link MathContext}
+	 */
+	public void precompute(MathContext mathContext) {
+		// the smallest argument needs the most terms of the series
+		int precision = mathContext.getPrecision() + GUARD_DIGITS;
+		logGammaOfLargeArgument(BigDecimal.valueOf(minArgument(precision)), precision);
+	}
+
+	/**
+	 * Calculates ln(&Gamma;(x)) for x &gt; 0.
+	 *
+	 * @param x the argument
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return ln(&Gamma;(x))
+	 */
+	public BigDecimal logGamma(BigDecimal x, MathContext mathContext) {
+		int precision = mathContext.getPrecision() + GUARD_DIGITS;
+
+		// ln(gamma(x)) >= 10^(n-1) if x >= 10 has n integral digits, fewer digits after the decimal point are needed
+		int integralDigits = x.precision() - x.scale();
+		int digits = integralDigits >= 2 ? Math.max(precision - (integralDigits - 1), 1) : precision;
+
+		BigDecimal result = logGamma(x, digits);
+		if (result.signum() != 0) {
+			// ln(gamma(x)) is close to 0 for x close to 1 and 2, calculate the digits that cancelled out
+			int cancelledDigits = -(result.precision() - result.scale() - 1);
+			if (cancelledDigits > 0) {
+				result = logGamma(x, precision + cancelledDigits);
+			}
+		}
+		return result.round(mathContext);
+	}
+
+	/**
+	 * Calculates ln(&Gamma;(x)) with the specified number of digits after the decimal point.
+	 */
+	private BigDecimal logGamma(BigDecimal x, int digits) {
+		int shift = shift(x, digits);
+
+		BigDecimal z = x.add(BigDecimal.valueOf(shift));
+		BigDecimal result = logGammaOfLargeArgument(z, digits);
+		if (shift > 0) {
+			// ln(x (x+1) ... (x+m-1)) < m ln(x+m) has at most 3 more integral digits than m
+			MathContext mc = new MathContext(digits + 2 * digits(shift) + 3, RoundingMode.HALF_EVEN);
+			result = result.subtract(BigDecimalMath.log(risingFactorial(x, shift, mc), mc));
+		}
+		return result;
+	}
+
+	private static int shift(BigDecimal x, int digits) {
+		BigDecimal minArgument = BigDecimal.valueOf(minArgument(digits));
+		if (x.compareTo(minArgument) >= 0) {
+			return 0;
+		}
+		return minArgument.subtract(x).setScale(0, RoundingMode.CEILING).intValueExact();
+	}
+
+	/**
+	 * Calculates x (x+1) ... (x+n-1).
+	 */
+	private static BigDecimal risingFactorial(BigDecimal x, int n, MathContext mc) {
+		BigDecimal result = x;
+		for (int i = 1; i < n; i++) {
+			result = result.multiply(x.add(BigDecimal.valueOf(i)), mc);
+		}
+		return result;
+	}
+
+	/**
+	 * Calculates ln(&Gamma;(z)) with the specified number of digits after the decimal point for z &gt;= {@link #minArgument(int)}.
+	 */
+	private BigDecimal logGammaOfLargeArgument(BigDecimal z, int digits) {
+		// (z - 1/2) ln(z) has at most n + digits(n) + 1 integral digits if z has n integral digits
+		int integralDigitsZ = z.precision() - z.scale();
+		MathContext mc = new MathContext(digits + integralDigitsZ + digits(integralDigitsZ) + 1, RoundingMode.HALF_EVEN);
+
+		BigDecimal result = z.subtract(BigDecimal.valueOf(0.5)).multiply(BigDecimalMath.log(z, mc), mc);
+		result = result.subtract(z, mc);
+		result = result.add(halfLogTwoPiCache.get(mc), mc);
+
+		return result.add(series(z, digits), mc);
+	}
+
+	/**
+	 * Calculates the sum of B<sub>2k</sub> / (2k (2k-1) z<sup>2k-1</sup>) with the specified number of digits after the decimal point.
+	 *
+	 * <p>All terms are smaller than 1 / (12 z).
+	 * Every term is calculated only with the precision needed for its digits above 10<sup>-digits</sup>.</p>
+	 */
+	private BigDecimal series(BigDecimal z, int digits) {
+		MathContext seriesContext = new MathContext(digits, RoundingMode.HALF_EVEN);
+		BigDecimal inverse = BigDecimal.ONE.divide(z, seriesContext);
+		BigDecimal inverseSquare = inverse.multiply(inverse, seriesContext);
+
+		BigDecimal[] coefficients = getCoefficients(digits);
+
+		MathContext termContext = seriesContext;
+		BigDecimal power = inverse;
+		BigDecimal sum = BigDecimal.ZERO;
+		for (int k = 1; ; k++) {
+			BigDecimal coefficient = k <= coefficients.length ? coefficients[k - 1].round(termContext) : coefficient(k, termContext);
+			BigDecimal term = coefficient.multiply(power, termContext);
+			sum = sum.add(term, seriesContext);
+
+			int exponent = term.precision() - term.scale() - 1;
+			if (exponent < -digits) {
+				break;
+			}
+
+			// the following terms are smaller than this term, the rounding errors of the powers of 1/z add up with every term
+			termContext = new MathContext(Math.max(digits + exponent + digits(k) + 2, 2), RoundingMode.HALF_EVEN);
+			power = power.multiply(inverseSquare.round(termContext), termContext);
+		}
+
+		return sum;
+	}
+
+	/**
+	 * Returns the coefficients B<sub>2k</sub> / (2k (2k-1)) starting with k = 1 for the specified number of digits after the decimal point.
+	 *
+	 * <p>The coefficients are sufficient for the series of all z &gt;= {@link #minArgument(int)}.</p>
+	 */
+	private BigDecimal[] getCoefficients(int digits) {
+		return coefficientsCache.get(digits, StirlingCalculator::calculateCoefficients);
+	}
+
+	private static BigDecimal[] calculateCoefficients(int digits) {
+		// the terms are calculated with at most digits + 2 significant digits
+		MathContext mc = new MathContext(digits + 2, RoundingMode.HALF_EVEN);
+		double log10MinArgument = Math.log10(minArgument(digits));
+
+		List<BigDecimal> values = new ArrayList<>();
+		for (int k = 1; ; k++) {
+			BigDecimal coefficient = coefficient(k, mc);
+			values.add(coefficient);
+
+			// the term of the smallest argument is the largest
+			int exponent = coefficient.precision() - coefficient.scale() - 1;
+			if (exponent - (2 * k - 1) * log10MinArgument < -digits - 1) {
+				break;
+			}
+		}
+		return values.toArray(new BigDecimal[0]);
+	}
+
+	private static BigDecimal coefficient(int k, MathContext mathContext) {
+		return BigRational.bernoulli(2 * k).divide(BigRational.valueOf(2 * k * (2 * k - 1))).toBigDecimal(mathContext);
+	}
+
+	private static int digits(int value) {
+		return Integer.toString(Math.abs(value)).length();
+	}
+}
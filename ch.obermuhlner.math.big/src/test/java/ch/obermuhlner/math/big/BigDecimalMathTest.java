@@ -4,11 +4,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
+import java.math.RoundingMode;
 import java.util.Arrays;
 import java.util.Random;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import ch.obermuhlner.math.big.stream.BigDecimalStream;
 import org.junit.Test;
@@ -210,6 +213,20 @@ public class BigDecimalMathTest {
 				10);
 	}
 
+	@Test
+	public void testPiAlternatingPrecisionsMultiThreaded() {
+		int[] precisions = IntStream.range(0, 200).map(i -> i % 2 == 0 ? 50 : 250).toArray();
+		BigDecimal[] results = Arrays.stream(precisions).parallel()
+				.mapToObj(precision -> BigDecimalMath.pi(new MathContext(precision)))
+				.toArray(BigDecimal[]::new);
+
+		BigDecimal expected = BigDecimalMath.pi(new MathContext(300));
+		for (int i = 0; i < precisions.length; i++) {
+			MathContext mathContext = new MathContext(precisions[i]);
+			assertEquals("precision=" + precisions[i], expected.round(mathContext).toString(), results[i].toString());
+		}
+	}
+
 
 	@Test
 	public void testBernoulli() {
@@ -258,6 +275,39 @@ public class BigDecimalMathTest {
 		BigDecimalMath.factorial(-1);
 	}
 
+	@Test
+	public void testFactorialIntMathContext() {
+		for (int precision : new int[] { 10, 34, 100 }) {
+			MathContext mathContext = new MathContext(precision);
+			for (int n = 0; n <= 500; n += (n < 150 ? 1 : 23)) {
+				assertEquals("n=" + n + " precision=" + precision, BigDecimalMath.factorial(n).round(mathContext).toString(), BigDecimalMath.factorial(n, mathContext).toString());
+			}
+		}
+
+		// Result calculated from the exact product: 100000!
+		assertEquals(new BigDecimal("2.8242294079603478742934215780245355184774949260912E+456573"), BigDecimalMath.factorial(100000, new MathContext(50)));
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testFactorialIntMathContextNegative() {
+		BigDecimalMath.factorial(-1, MC);
+	}
+
+	@Test
+	public void testLogFactorial() {
+		for (int n = 0; n <= 500; n += (n < 150 ? 1 : 23)) {
+			assertEquals("n=" + n, BigDecimalMath.log(BigDecimalMath.factorial(n), MC), BigDecimalMath.logFactorial(n, MC));
+		}
+
+		// Result calculated from the exact product: log(100000!)
+		assertEquals(new BigDecimal("1051299.2218991218651292781082061108552493445231481"), BigDecimalMath.logFactorial(100000, new MathContext(50)));
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testLogFactorialNegative() {
+		BigDecimalMath.logFactorial(-1, MC);
+	}
+
 	@Test
 	public void testFactorial() {
 		// Result from wolframalpha.com: 1.5!
@@ -308,6 +358,113 @@ public class BigDecimalMathTest {
 		   10);
 	}
 
+	@Test
+	public void testGammaAlternatingPrecisionsMultiThreaded() {
+		int[] precisions = IntStream.range(0, 100).map(i -> i % 2 == 0 ? 47 : 131).toArray();
+		BigDecimal[] results = Arrays.stream(precisions).parallel()
+				.mapToObj(precision -> BigDecimalMath.gamma(new BigDecimal("1.5"), new MathContext(precision)))
+				.toArray(BigDecimal[]::new);
+
+		// gamma(1.5) = sqrt(pi) / 2
+		MathContext referenceContext = new MathContext(200);
+		BigDecimal expected = BigDecimalMath.sqrt(BigDecimalMath.pi(referenceContext), referenceContext).divide(BigDecimal.valueOf(2));
+		for (int i = 0; i < precisions.length; i++) {
+			MathContext mathContext = new MathContext(precisions[i]);
+			assertEquals("precision=" + precisions[i], expected.round(mathContext).toString(), results[i].toString());
+		}
+	}
+
+	@Test
+	public void testGammaHalfInteger() {
+		// gamma(n + 1/2) = (2n)! / (4^n n!) * sqrt(pi)
+		int n = 1000;
+		MathContext referenceContext = new MathContext(200);
+		BigDecimal expected = BigDecimalMath.factorial(2 * n)
+				.divide(new BigDecimal(BigInteger.valueOf(4).pow(n)).multiply(BigDecimalMath.factorial(n)), referenceContext)
+				.multiply(BigDecimalMath.sqrt(BigDecimalMath.pi(referenceContext), referenceContext), referenceContext);
+		assertPrecisionCalculation(
+				expected,
+				mathContext -> BigDecimalMath.gamma(new BigDecimal("1000.5"), mathContext),
+				10);
+	}
+
+	@Test
+	public void testGammaLargeNegative() {
+		// gamma(x) = gamma(x + m) / (x (x+1) ... (x+m-1))
+		MathContext referenceContext = new MathContext(150);
+		BigDecimal x = new BigDecimal("-200.25");
+		BigDecimal product = BigDecimal.ONE;
+		for (int i = 0; i <= 200; i++) {
+			product = product.multiply(x.add(BigDecimal.valueOf(i)));
+		}
+		BigDecimal expected = BigDecimalMath.gamma(new BigDecimal("0.75"), referenceContext).divide(product, referenceContext);
+		assertPrecisionCalculation(
+				expected,
+				mathContext -> BigDecimalMath.gamma(x, mathContext),
+				10);
+	}
+
+	@Test
+	public void testLogGamma() {
+		assertEquals(BigDecimal.ZERO, BigDecimalMath.logGamma(BigDecimal.ONE, MC));
+		assertEquals(BigDecimal.ZERO, BigDecimalMath.logGamma(BigDecimal.valueOf(2), MC));
+
+		// log(gamma(0.5)) = log(pi) / 2
+		MathContext referenceContext = new MathContext(200);
+		BigDecimal expected = BigDecimalMath.log(BigDecimalMath.pi(referenceContext), referenceContext).divide(BigDecimal.valueOf(2));
+		assertPrecisionCalculation(
+				expected,
+				mathContext -> BigDecimalMath.logGamma(new BigDecimal("0.5"), mathContext),
+				10);
+	}
+
+	@Test
+	public void testLogGammaValues() {
+		for (String value : new String[] { "0.001", "0.999999", "1.0000001", "1.5", "1.9999999999", "2.0000001", "7.3", "123.456", "98765.4321" }) {
+			BigDecimal x = new BigDecimal(value);
+			for (int precision : new int[] { 10, 34, 100 }) {
+				MathContext referenceContext = new MathContext(precision + 40);
+				BigDecimal expected = BigDecimalMath.log(BigDecimalMath.gamma(x, referenceContext), referenceContext);
+				assertEquals("x=" + x + " precision=" + precision, expected.round(new MathContext(precision)), BigDecimalMath.logGamma(x, new MathContext(precision)));
+			}
+		}
+	}
+
+	@Test
+	public void testLogGammaLargeArgument() {
+		// log(gamma(n + 1/2)) = log((2n)!) - log(n!) - n log(4) + log(pi) / 2
+		int n = 100000;
+		MathContext referenceContext = new MathContext(MC.getPrecision() + 20);
+		BigDecimal expected = BigDecimalMath.logFactorial(2 * n, referenceContext)
+				.subtract(BigDecimalMath.logFactorial(n, referenceContext))
+				.subtract(BigDecimal.valueOf(n).multiply(BigDecimalMath.log(BigDecimal.valueOf(4), referenceContext)))
+				.add(BigDecimalMath.log(BigDecimalMath.pi(referenceContext), referenceContext).divide(BigDecimal.valueOf(2)));
+		assertEquals(expected.round(MC), BigDecimalMath.logGamma(new BigDecimal("100000.5"), MC));
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testLogGammaZero() {
+		BigDecimalMath.logGamma(BigDecimal.ZERO, MC);
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testLogGammaNegative() {
+		BigDecimalMath.logGamma(new BigDecimal("-1.5"), MC);
+	}
+
+	@Test
+	public void testGammaPrecompute() {
+		BigDecimalMath.precompute(new MathContext(77));
+
+		// gamma(1.5) = sqrt(pi) / 2
+		MathContext referenceContext = new MathContext(200);
+		BigDecimal expected = BigDecimalMath.sqrt(BigDecimalMath.pi(referenceContext), referenceContext).divide(BigDecimal.valueOf(2));
+		for (int precision = 67; precision <= 77; precision++) {
+			MathContext mathContext = new MathContext(precision);
+			assertEquals("precision=" + precision, expected.round(mathContext).toString(), BigDecimalMath.gamma(new BigDecimal("1.5"), mathContext).toString());
+		}
+	}
+
 	@Test
 	public void testGammaSlightlyPositive() {
 		// Result from wolframalpha.com: gamma(0.5)
@@ -366,6 +523,17 @@ public class BigDecimalMathTest {
 				10);
 	}
 	
+	@Test
+	public void testPowIntExact() {
+		// exponents with few and many set bits use different window sizes
+		MathContext mathContext = new MathContext(500);
+		BigDecimal x = new BigDecimal("1.0123");
+		for(int y : new int[] { 2, 3, 7, 31, 32, 365, 1000, 1023, 12345, 65535, 0x55555 }) {
+			BigDecimal expected = x.pow(y, new MathContext(1000)).round(mathContext);
+			assertEquals("1.0123^" + y, expected, BigDecimalMath.pow(x, y, mathContext));
+		}
+	}
+
 	@Test
 	public void testPowIntNegativeY() {
 		// positive exponents
@@ -447,6 +615,32 @@ public class BigDecimalMathTest {
 		System.out.println(BigDecimalMath.pow(BigDecimal.valueOf(0), BigDecimal.valueOf(-5), MC));
 	}
 
+	@Test
+	public void testPowPowerOfTen() {
+		assertEquals(new BigDecimal("1000"), BigDecimalMath.pow(BigDecimal.TEN, 3, MC));
+		assertEquals(new BigDecimal("0.001"), BigDecimalMath.pow(BigDecimal.TEN, -3, MC));
+		assertEquals(new BigDecimal("1E+3000"), BigDecimalMath.pow(new BigDecimal("1000"), 1000, MC));
+		assertEquals(new BigDecimal("10"), BigDecimalMath.pow(new BigDecimal("100"), new BigDecimal("0.5"), MC));
+		assertEquals(new BigDecimal("0.01"), BigDecimalMath.pow(new BigDecimal("1E-8"), new BigDecimal("0.25"), MC));
+		assertEquals(new BigDecimal("1E-20"), BigDecimalMath.pow(new BigDecimal("0.01"), new BigDecimal("10"), MC));
+	}
+
+	@Test
+	public void testPowSpecialExponents() {
+		MathContext referenceMathContext = new MathContext(MC.getPrecision() + 10);
+		for (String x : new String[] { "0.001", "0.7", "1.5", "2", "12345.6789" }) {
+			for (String y : new String[] { "0.5", "-0.5", "2.5", "-3.5", "0.25", "-0.125", "0.0625", "1", "-1", "365", "-12" }) {
+				BigDecimal bigX = new BigDecimal(x);
+				BigDecimal bigY = new BigDecimal(y);
+				BigDecimal expected = BigDecimalMath.exp(bigY.multiply(BigDecimalMath.log(bigX, referenceMathContext)), referenceMathContext);
+				assertEquals(
+						x + "^" + y,
+						expected.round(MC).stripTrailingZeros(),
+						BigDecimalMath.pow(bigX, bigY, MC).stripTrailingZeros());
+			}
+		}
+	}
+
 	@Test
 	public void testPowHighAccuracy1() {
 		// Result from wolframalpha.com: 0.12345 ^ 0.54321
@@ -549,6 +743,30 @@ public class BigDecimalMathTest {
 				(x, mathContext) -> BigDecimalMath.sqrt(x, mathContext));
 	}
 
+	@Test
+	public void testSqrtExact() {
+		assertEquals(new BigDecimal("1.1"), BigDecimalMath.sqrt(new BigDecimal("1.21"), MC));
+		assertEquals(new BigDecimal("123456789"), BigDecimalMath.sqrt(new BigDecimal("15241578750190521"), MC));
+		assertEquals(new BigDecimal("1E+150"), BigDecimalMath.sqrt(new BigDecimal("1E300"), MC));
+		assertEquals(new BigDecimal("0.003"), BigDecimalMath.sqrt(new BigDecimal("0.000009"), MC));
+
+		BigDecimal price = new BigDecimal("123456.78901234567890123");
+		assertEquals(price, BigDecimalMath.sqrt(price.multiply(price), MC));
+		assertEquals(price.round(new MathContext(5)), BigDecimalMath.sqrt(price.multiply(price), new MathContext(5)));
+	}
+
+	@Test
+	public void testRootExact() {
+		assertEquals(new BigDecimal("1E+100"), BigDecimalMath.root(new BigDecimal("1E300"), BigDecimal.valueOf(3), MC));
+		assertEquals(new BigDecimal("0.002"), BigDecimalMath.root(new BigDecimal("0.000000008"), BigDecimal.valueOf(3), MC));
+		assertEquals(new BigDecimal("0.2"), BigDecimalMath.root(new BigDecimal("0.00032"), BigDecimal.valueOf(5), MC));
+
+		BigDecimal price = new BigDecimal("123.4567");
+		for (int n = 2; n < 10; n++) {
+			assertEquals(price, BigDecimalMath.root(price.pow(n), BigDecimal.valueOf(n), MC));
+		}
+	}
+
 	@Test
 	public void testRoot() {
 		for(double value : new double[] { 0.1, 2, 10, 33.3333 }) {
@@ -563,11 +781,60 @@ public class BigDecimalMathTest {
 		}
 	}
 
+	@Test
+	public void testRootHuge() {
+		// root(1E400, 7) = 1E57 * root(10, 7)
+		assertEquals(BigDecimalMath.root(BigDecimal.TEN, BigDecimal.valueOf(7), MC).scaleByPowerOfTen(57), BigDecimalMath.root(new BigDecimal("1E400"), BigDecimal.valueOf(7), MC));
+		// root(1E-400, 7) = 1E-58 * root(1E6, 7)
+		assertEquals(BigDecimalMath.root(new BigDecimal("1E6"), BigDecimal.valueOf(7), MC).scaleByPowerOfTen(-58), BigDecimalMath.root(new BigDecimal("1E-400"), BigDecimal.valueOf(7), MC));
+
+		MathContext mathContext = new MathContext(10);
+		assertEquals(BigDecimalMath.sqrt(BigDecimal.TEN, mathContext).scaleByPowerOfTen(200), BigDecimalMath.sqrt(new BigDecimal("1E401"), mathContext));
+		assertEquals(BigDecimalMath.root(BigDecimal.TEN, new BigDecimal("2.5"), mathContext).scaleByPowerOfTen(-400), BigDecimalMath.root(new BigDecimal("1E-999"), new BigDecimal("2.5"), mathContext));
+	}
+
 	@Test(expected = ArithmeticException.class)
 	public void testSqrtNegative() {
 		BigDecimalMath.sqrt(new BigDecimal(-1), MC);
 	}
 
+	@Test
+	public void testInverseSqrt() {
+		for(double value : new double[] { 0.1, 2, 10, 33.3333, 1E-100, 1E100 }) {
+			assertEquals(
+					"inverseSqrt(" + value + ")",
+					toCheck(1 / Math.sqrt(value)),
+					toCheck(BigDecimalMath.inverseSqrt(BigDecimal.valueOf(value), MC)));
+		}
+	}
+
+	@Test
+	public void testInverseSqrtHighAccuracy() {
+		// Result from wolframalpha.com: sqrt(2)
+		BigDecimal sqrtTwo = new BigDecimal("1.4142135623730950488016887242096980785696718753769480731766797379907324784621070388503875343276415727350138462309122970249248360558507372126441214970999358314132226659275055927557999505011527820605714701095599716059702745345968620147285174186408891986095523292304843087143214508397626036279952514079896872533965463318088296406206152583523950547457502877599617298355752203375318570113543746034084988471603868999706990048150305440277903164542478230684929369186215805784631115966687130130156185689872372352885092648612494977154218334204285686060146824720771435854874155657069677653720226485447015858801620758474922657226002085584466521458398893944370926591800311388246468157082630100594858704003186480342194897278290641045072636881313739855256117322040245091227700226941127573627280495738108967504018369868368450725799364729060762996941380475654823728997180326802474420629269124859052181004459842150591120249441341728531478105803603371077309182869314710171111683916581726889419758716582152128229518488472089694633862891562882765952635140542267653239694617511291602408715510135150455381287560052631468017127402653969470240300517495318862925631385188163478001569369176881852378684052287837629389214300655869568685964595155501644724509836896036887323114389415576651040883914292338113206052433629485317049915771756228549741438999188021762430965206564211827316726257539594717255934637238632261482742622208671155839599926521176252698917540988159348640083457085181472231814204070426509056532333398436457865796796519267292399875366617215982578860263363617827495994219403777753681426217738799194551397231274066898329989895386728822856378697749662519966583525776198939322845344735694794962952168891485492538904755828834526096524096542889394538646625744927556381964410316979833061852019379384940057156333720548068540575867999670121372239");
+		// 1/sqrt(2) = sqrt(2)/2
+		BigDecimal expected = sqrtTwo.divide(BigDecimal.valueOf(2));
+		assertPrecisionCalculation(
+				expected,
+				mathContext -> BigDecimalMath.inverseSqrt(new BigDecimal("2"), mathContext),
+				10);
+	}
+
+	@Test
+	public void testInverseSqrtRandom() {
+		assertRandomCalculation(
+				1000,
+				"inverseSqrt",
+				random -> random.nextDouble() * 100 + 0.000001,
+				x -> 1 / Math.sqrt(x),
+				(x, mathContext) -> BigDecimalMath.inverseSqrt(x, mathContext));
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testInverseSqrtZero() {
+		BigDecimalMath.inverseSqrt(BigDecimal.ZERO, MC);
+	}
+
 	@Test
 	public void testRootHighAccuracy1() {
 		// Result from wolframalpha.com: root(1.23, 123)
@@ -686,6 +953,23 @@ public class BigDecimalMathTest {
 		assertEquals(expected.round(MC), BigDecimalMath.log(new BigDecimal("1E-399"), MC));
 	}
 
+	@Test
+	public void testLogCloseToOne() {
+		// log(1+d) = d - d^2/2 + d^3/3 - d^4/4 + ...
+		MathContext mathContext = new MathContext(200);
+		for (String d : new String[] { "1E-60", "-1E-60", "3E-20" }) {
+			BigDecimal delta = new BigDecimal(d);
+			BigDecimal expected = BigDecimal.ZERO;
+			for (int n = 1; n <= 20; n++) {
+				BigDecimal term = delta.pow(n).divide(BigDecimal.valueOf(n), new MathContext(400));
+				expected = n % 2 == 1 ? expected.add(term) : expected.subtract(term);
+			}
+			assertEquals("log(1+" + d + ")",
+					expected.round(mathContext),
+					BigDecimalMath.log(BigDecimal.ONE.add(delta), mathContext));
+		}
+	}
+
 	@Test
 	public void testLogHuge() {
 		// Result from wolframalpha.com: log(1e399)
@@ -774,6 +1058,20 @@ public class BigDecimalMathTest {
 		}
 	}
 
+	@Test
+	public void testExpIntegral() {
+		for (int precision = 1; precision <= 1001; precision+=100) {
+			MathContext mathContext = new MathContext(precision);
+			MathContext referenceMathContext = new MathContext(precision * 2 + 20);
+			for (int n : new int[] { 2, 3, 7, 64, 1000, 12345, -1, -2, -77 }) {
+				BigDecimal expected = BigDecimalMath.pow(BigDecimalMath.e(referenceMathContext), n, referenceMathContext).round(mathContext);
+				assertEquals("exp(" + n + ") precision=" + precision,
+						expected,
+						BigDecimalMath.exp(BigDecimal.valueOf(n), mathContext));
+			}
+		}
+	}
+
 	@Test
 	public void testExpHighAccuracy1() {
 		// Result from wolframalpha.com: exp(0.1)
@@ -823,6 +1121,22 @@ public class BigDecimalMathTest {
 				10);
 	}
 
+	@Test
+	public void testSinCosLongArgument() {
+		// long arguments are halved before the taylor series is calculated
+		for (BigDecimal x : new BigDecimal[] { BigDecimalMath.pi(new MathContext(500)).divide(BigDecimal.valueOf(7), new MathContext(500)), BigDecimalMath.sqrt(BigDecimal.valueOf(1000), new MathContext(500)) }) {
+			assertPrecisionCalculation(
+					mathContext -> BigDecimalMath.sin(x, mathContext),
+					10, AUTO_TEST_MAX_PRECISION);
+			assertPrecisionCalculation(
+					mathContext -> BigDecimalMath.cos(x, mathContext),
+					10, AUTO_TEST_MAX_PRECISION);
+			assertPrecisionCalculation(
+					mathContext -> BigDecimalMath.sinCos(x, mathContext)[0],
+					10, AUTO_TEST_MAX_PRECISION);
+		}
+	}
+
 	@Test
 	public void testSinRandom() {
 		assertRandomCalculation(
@@ -862,6 +1176,16 @@ public class BigDecimalMathTest {
 		BigDecimalMath.asin(new BigDecimal("-1.00001"), MC);
 	}
 
+	@Test
+	public void testAsinLongArgument() {
+		// long arguments use newton's method for higher precisions
+		for (BigDecimal x : new BigDecimal[] { BigDecimalMath.pi(new MathContext(500)).divide(BigDecimal.valueOf(-7), new MathContext(500)), BigDecimalMath.sqrt(new BigDecimal("0.9"), new MathContext(500)) }) {
+			assertPrecisionCalculation(
+					mathContext -> BigDecimalMath.asin(x, mathContext),
+					10, AUTO_TEST_MAX_PRECISION);
+		}
+	}
+
 	@Test
 	public void testCos() {
 		for(double value : new double[] { -5, -1, -0.3, 0, 0.1, 2, 10 }) {
@@ -891,6 +1215,77 @@ public class BigDecimalMathTest {
 				(x, mathContext) -> BigDecimalMath.cos(x, mathContext));
 	}
 
+	@Test
+	public void testSinCosHugeArgument() {
+		// Results calculated with x.remainder(2*pi) using pi with 300 digits
+		MathContext mathContext = new MathContext(50);
+		assertEquals(new BigDecimal("-0.78967249342931008271028953991740775396008340462140"), BigDecimalMath.sin(new BigDecimal("1E50"), mathContext));
+		assertEquals(new BigDecimal("-0.61352860823366356226485295130376280010719043970532"), BigDecimalMath.cos(new BigDecimal("1E50"), mathContext));
+		assertEquals(new BigDecimal("0.37237612366127668826208669555316429571966788356743"), BigDecimalMath.sin(new BigDecimal("-1E100"), mathContext));
+		assertEquals(new BigDecimal("-0.92808190507465534345619464377695592818318207643905"), BigDecimalMath.cos(new BigDecimal("-1E100"), mathContext));
+
+		BigDecimal[] sinCos = BigDecimalMath.sinCos(new BigDecimal("123456789012345678901234567890.5"), mathContext);
+		assertEquals(new BigDecimal("0.71871056889642018667322627944923669564530107690041"), sinCos[0]);
+		assertEquals(new BigDecimal("-0.69530936866734655852495175957320484488384458434237"), sinCos[1]);
+
+		assertEquals(toCheck(Math.sin(1E22)), toCheck(BigDecimalMath.sin(new BigDecimal("1E22"), MC)));
+	}
+
+	@Test
+	public void testSinCloseToMultipleOfPi() {
+		// the reduced argument cancels 50 digits
+		BigDecimal x = BigDecimalMath.pi(new MathContext(100)).setScale(50, RoundingMode.DOWN);
+		BigDecimal expected = BigDecimalMath.pi(new MathContext(200)).subtract(x).round(MC);
+		assertEquals(expected, BigDecimalMath.sin(x, MC));
+		assertEquals(expected, BigDecimalMath.sinCos(x, MC)[0]);
+	}
+
+	@Test
+	public void testSinCos() {
+		// all octants including their boundaries
+		for(double value : new double[] { -10, -5, -4, -3.2, -2.4, -1.6, -0.8, -0.3, 0, 0.1, 0.7853981633974483, 0.8, 1.5, 1.6, 2.3561944901923448, 2.4, 3.1, 3.2, 4, 4.8, 5.5, 6.2, 10, 20, 222 }) {
+			BigDecimal[] sinCos = BigDecimalMath.sinCos(BigDecimal.valueOf(value), MC);
+			assertEquals(2, sinCos.length);
+			assertEquals("sin(" + value + ")",
+					toCheck(Math.sin(value)),
+					toCheck(sinCos[0]));
+			assertEquals("cos(" + value + ")",
+					toCheck(Math.cos(value)),
+					toCheck(sinCos[1]));
+		}
+	}
+
+	@Test
+	public void testSinCosHighAccuracy() {
+		// Result from wolframalpha.com: sin(1.234), cos(1.234)
+		BigDecimal expectedSin = new BigDecimal("0.9438182093746337048617510061568275895172142720765760747220911781871399906968099483012598865055627858443507995518738766093869470509555068501582327052306784505752678705592908705201008148688700290760777223780263846758767378849305659165171458418076473553139600704400668632728702595059340199442411041490960324146869032516728992265808389968786198384238945833333329583982909393226122072922972072082343881982280834707504367506003311264818344731205557095928837491316071651630909050078777342482603092413467227932481298625668189293277970973821823536368859836352290171029827678389361668326651223313262181049179177713541062354198699357532113523026870736528786100665809233401695953717292150408826019906221690064294418649612406003915087946369501457359604343584263199153607653049282756925573849745513783165941970858623580447565222079996405576286670288022685431434886874295950242554364666123772837748084818582410730641892357161908769689946576427006541439717287833624991188137124554987468952436155712514180011917087180464841510692660163853984256220178122573051503993728719511214066957647751102014250171535662112264708511179562539851056691807479887430154563476132015884380272176766265870281843666030351481875369524292556759059067229573601315888931475939650530190997869732280644783380897437687282157862590038715019700476516674872568434184233136320198348795549241647388226943616471234865808472025746819601113742677172125085499919170003010129528504832452877371569832101275092363746925641703736428733071588960741542241552270894271703880793621738884941850045978201484407786879714905305225922874339567944723190660416232538921600185338494145628390029969393239498992087392435528382285271962107670662847438424222622822172719234821254495443425396088216409484488852445333426778397941937246299790022429378799080231482904310254381416336471042617299708975");
+		BigDecimal expectedCos = new BigDecimal("0.3304651080717298574032807727899271437216920101969540348605304415152510377850481654650247150200780863415535299490857568279769354541967379397431278152484662377393883768410533419456683721348368071060447119629226464127475191769149818089642412919990646712138828462407239787011203786844401859479654861215480468553428321928822608813865008312100125205763217809424012405019490461648738007730900576327363563072819683608077467442286094847912950576189413624713414163958384339772584148744200648200688260933678578647517949013249027860144759454924413798901254668352778102301380649346953594529136819938821616590614874123930824463095104424946532966863750206459438812141713997562660701774968530149079881716322567945593156313333714539747617833144412172753445042952390635799639722239182963246046253903297563427741240081854182759746064810195237864060495745282046388159544259160022883886283097655348787382625328541498058884531961700370121969709480517496749271767735566816249479148488140162802977360971480510530896749944967304972380342831111213248738743617588927820627474733980422901948506009170945896565358929343777077336070289567245971065005860921723126096986632224093068775586235017140132374230378564807873973345322857782900999655081761884197357196908109838154083921138904571471346009606070648486103795109388774364448499820533743041120697352743044140279966823607345221684081898024173036376672034911709557102798619864101440725109041264516550229345850413762376113868869256025801898710854538411051622029568572639882301754336762028948110406127835411158515890274188501674397646117070538768699719967119559314804437052735458481025364866752041137855637961697664203246176781407193905595472755222134533679020285886126388322265972029035063590381025908006103799793443322205833892605275969980406879438015951448721792889383476504454337544038606643477976186");
+		assertPrecisionCalculation(
+				expectedSin,
+				mathContext -> BigDecimalMath.sinCos(new BigDecimal("1.234"), mathContext)[0],
+				10);
+		assertPrecisionCalculation(
+				expectedCos,
+				mathContext -> BigDecimalMath.sinCos(new BigDecimal("1.234"), mathContext)[1],
+				10);
+	}
+
+	@Test
+	public void testSinCosRandom() {
+		assertRandomCalculation(
+				1000,
+				"sinCos[0]",
+				random -> random.nextDouble() * 100 - 50,
+				Math::sin,
+				(x, mathContext) -> BigDecimalMath.sinCos(x, mathContext)[0]);
+		assertRandomCalculation(
+				1000,
+				"sinCos[1]",
+				random -> random.nextDouble() * 100 - 50,
+				Math::cos,
+				(x, mathContext) -> BigDecimalMath.sinCos(x, mathContext)[1]);
+	}
+
 	@Test
 	public void testAcosRandom() {
 		assertRandomCalculation(
@@ -911,6 +1306,22 @@ public class BigDecimalMathTest {
 		}
 	}
 	
+	@Test
+	public void testAcosCloseToOne() {
+		MathContext referenceContext = new MathContext(MC.getPrecision() + 10);
+		for (String value : new String[] { "3E-7", "1E-20", "1E-40" }) {
+			BigDecimal x = BigDecimal.ONE.subtract(new BigDecimal(value));
+			// acos(x) = 2 * atan(sqrt((1 - x) / (1 + x)))
+			BigDecimal expected = BigDecimalMath.atan(BigDecimalMath.sqrt(BigDecimal.ONE.subtract(x).divide(BigDecimal.ONE.add(x), referenceContext), referenceContext), referenceContext).multiply(BigDecimal.valueOf(2));
+			assertEquals("acos(" + x + ")",
+					expected.round(MC).toString(),
+					BigDecimalMath.acos(x, MC).toString());
+			assertEquals("acos(" + x.negate() + ")",
+					BigDecimalMath.pi(referenceContext).subtract(expected).round(MC).toString(),
+					BigDecimalMath.acos(x.negate(), MC).toString());
+		}
+	}
+
 	@Test(expected = ArithmeticException.class)
 	public void testAcosGreaterOne() {
 		BigDecimalMath.acos(new BigDecimal("1.00001"), MC);
@@ -940,6 +1351,45 @@ public class BigDecimalMathTest {
 				(x, mathContext) -> BigDecimalMath.tan(x, mathContext));
 	}
 
+	@Test
+	public void testAtan() {
+		for(double value : new double[] { -1E20, -10, -1, -0.6, -0.5, -0.1, 0, 0.001, 0.1, 0.4, 0.5, 0.7, 1, 2, 1E10 }) {
+			assertEquals("atan(" + value + ")",
+					toCheck(Math.atan(value)),
+					toCheck(BigDecimalMath.atan(BigDecimal.valueOf(value), MC)));
+		}
+	}
+
+	@Test
+	public void testAtanOne() {
+		for (int precision = 1; precision <= 1001; precision+=100) {
+			MathContext mathContext = new MathContext(precision);
+			BigDecimal expected = BigDecimalMath.pi(new MathContext(precision + 10)).divide(BigDecimal.valueOf(4), mathContext);
+			assertEquals("atan(1) precision=" + precision, expected, BigDecimalMath.atan(BigDecimal.ONE, mathContext));
+		}
+	}
+
+	@Test
+	public void testAtanShortArgument() {
+		// short arguments use binary splitting without halving
+		assertPrecisionCalculation(
+				mathContext -> BigDecimalMath.atan(new BigDecimal("0.1"), mathContext),
+				10, AUTO_TEST_MAX_PRECISION);
+		assertPrecisionCalculation(
+				mathContext -> BigDecimalMath.atan(new BigDecimal("-3"), mathContext),
+				10, AUTO_TEST_MAX_PRECISION);
+	}
+
+	@Test
+	public void testAtanLongArgument() {
+		// long arguments are halved before the taylor series is calculated
+		for (BigDecimal x : new BigDecimal[] { BigDecimalMath.pi(new MathContext(500)).divide(BigDecimal.valueOf(-7), new MathContext(500)), BigDecimalMath.sqrt(BigDecimal.valueOf(1000), new MathContext(500)) }) {
+			assertPrecisionCalculation(
+					mathContext -> BigDecimalMath.atan(x, mathContext),
+					10, AUTO_TEST_MAX_PRECISION);
+		}
+	}
+
 	@Test
 	public void testAtanRandom() {
 		assertRandomCalculation(
@@ -1016,6 +1466,94 @@ public class BigDecimalMathTest {
 				(x, mathContext) -> BigDecimalMath.sinh(x, mathContext));
 	}
 	
+	@Test
+	public void testSinhCosh() {
+		for(double value : new double[] { -50, -3, -1, -0.5, -0.001, 0, 1E-10, 0.1, 0.99, 1, 2, 10, 100 }) {
+			BigDecimal[] sinhCosh = BigDecimalMath.sinhCosh(BigDecimal.valueOf(value), MC);
+			assertEquals(2, sinhCosh.length);
+			assertEquals("sinh(" + value + ")",
+					toCheck(Math.sinh(value)),
+					toCheck(sinhCosh[0]));
+			assertEquals("cosh(" + value + ")",
+					toCheck(Math.cosh(value)),
+					toCheck(sinhCosh[1]));
+		}
+	}
+
+	@Test
+	public void testSinhCoshRandom() {
+		assertRandomCalculation(
+				1000,
+				"sinhCosh[0]",
+				random -> random.nextDouble() * 100 - 50,
+				Math::sinh,
+				(x, mathContext) -> BigDecimalMath.sinhCosh(x, mathContext)[0]);
+		assertRandomCalculation(
+				1000,
+				"sinhCosh[1]",
+				random -> random.nextDouble() * 100 - 50,
+				Math::cosh,
+				(x, mathContext) -> BigDecimalMath.sinhCosh(x, mathContext)[1]);
+	}
+
+	@Test
+	public void testSeriesZero() {
+		// the series are calculated with rounded decimal factors, the result of 0 must not get a scale from them
+		MathContext mathContext = MathContext.DECIMAL64;
+		assertEquals(BigDecimal.ZERO, BigDecimalMath.sin(BigDecimal.ZERO, mathContext));
+		assertEquals(BigDecimal.ZERO, BigDecimalMath.sinCos(BigDecimal.ZERO, mathContext)[0]);
+		assertEquals(BigDecimal.ZERO, BigDecimalMath.atan(BigDecimal.ZERO, mathContext));
+		assertEquals(BigDecimal.ZERO, BigDecimalMath.sinh(BigDecimal.ZERO, mathContext));
+		assertEquals(BigDecimal.ZERO, BigDecimalMath.tanh(BigDecimal.ZERO, mathContext));
+		assertEquals(BigDecimal.ONE, BigDecimalMath.cos(BigDecimal.ZERO, mathContext));
+		assertEquals(BigDecimal.ONE, BigDecimalMath.cosh(BigDecimal.ZERO, mathContext));
+	}
+
+	@Test
+	public void testSinhTanhSmall() {
+		// sinh(x) = x + x^3/6 + x^5/120 + ..., tanh(x) = x - x^3/3 + 2x^5/15 - ...
+		MathContext mathContext = new MathContext(100);
+		for (String value : new String[] { "1E-30", "-3E-40" }) {
+			BigDecimal x = new BigDecimal(value);
+			BigDecimal x3 = x.pow(3);
+			BigDecimal x5 = x.pow(5);
+			assertEquals("sinh(" + value + ")",
+					x.add(x3.divide(BigDecimal.valueOf(6), mathContext)).add(x5.divide(BigDecimal.valueOf(120), mathContext)).round(mathContext).stripTrailingZeros(),
+					BigDecimalMath.sinh(x, mathContext).stripTrailingZeros());
+			assertEquals("tanh(" + value + ")",
+					x.subtract(x3.divide(BigDecimal.valueOf(3), mathContext)).add(x5.multiply(BigDecimal.valueOf(2)).divide(BigDecimal.valueOf(15), mathContext)).round(mathContext).stripTrailingZeros(),
+					BigDecimalMath.tanh(x, mathContext).stripTrailingZeros());
+		}
+	}
+
+	@Test
+	public void testTanhThresholds() {
+		// |x| < 0.5 uses sinh(x) / sqrt(1 + sinh(x)^2), larger arguments use a single exp(2|x|)
+		MathContext resultContext = new MathContext(50);
+		MathContext referenceContext = new MathContext(60);
+		for (String value : new String[] { "0.49", "0.4999999999", "0.5", "0.5000000001", "0.51", "0.99", "1", "1.01" }) {
+			for (BigDecimal x : new BigDecimal[] { new BigDecimal(value), new BigDecimal(value).negate() }) {
+				BigDecimal expected = BigDecimalMath.sinh(x, referenceContext).divide(BigDecimalMath.cosh(x, referenceContext), resultContext);
+				assertEquals("tanh(" + x + ")", expected, BigDecimalMath.tanh(x, resultContext));
+
+				assertPrecisionCalculation(
+						mathContext -> BigDecimalMath.tanh(x, mathContext),
+						10, AUTO_TEST_MAX_PRECISION);
+			}
+		}
+	}
+
+	@Test
+	public void testAsinhNegative() {
+		MathContext mathContext = new MathContext(50);
+		for (String value : new String[] { "1E-30", "0.5", "1E30" }) {
+			BigDecimal x = new BigDecimal(value);
+			assertEquals("asinh(-" + value + ")",
+					BigDecimalMath.asinh(x, mathContext).negate(),
+					BigDecimalMath.asinh(x.negate(), mathContext));
+		}
+	}
+
 	@Test
 	public void testAsinhRandom() {
 		assertRandomCalculation(
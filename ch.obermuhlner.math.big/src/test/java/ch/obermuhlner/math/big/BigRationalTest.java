@@ -14,6 +14,7 @@ import static org.junit.Assert.assertTrue;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.util.stream.IntStream;
 
 import org.junit.Test;
 
@@ -774,6 +775,10 @@ public class BigRationalTest {
 		assertEquals(L1.multiply(L1).multiply(L1), L1.pow(3));
 
 		assertSame(L1, L1.pow(1));
+
+		BigRational L2 = valueOf(-7, 3);
+		assertEquals(valueOf(BigInteger.valueOf(-7).pow(12345), BigInteger.valueOf(3).pow(12345)), L2.pow(12345));
+		assertEquals(valueOf(BigInteger.valueOf(3).pow(255), BigInteger.valueOf(-7).pow(255)), L2.pow(-255));
 	}
 	
 	/**
@@ -802,6 +807,22 @@ public class BigRationalTest {
 		assertEquals("43867/798", bernoulli(18).reduce().toRationalString());
 	}
 
+	@Test
+	public void testBernoulliMultiThreaded() {
+		// concurrent calls with decreasing n, the denominator of B_2k is the product of the primes p with (p-1) | 2k (von Staudt-Clausen)
+		IntStream.iterate(300, n -> n - 2).limit(150).parallel().forEach(n -> {
+			BigRational b = bernoulli(n).reduce();
+			BigInteger denominator = BigInteger.ONE;
+			for (int p = 2; p <= n + 1; p++) {
+				if (n % (p - 1) == 0 && BigInteger.valueOf(p).isProbablePrime(50)) {
+					denominator = denominator.multiply(BigInteger.valueOf(p));
+				}
+			}
+			assertEquals("B_" + n, denominator, b.getDenominatorBigInteger());
+			assertEquals("B_" + n, n % 4 == 0 ? -1 : 1, b.signum());
+		});
+	}
+
 	@Test(expected = ArithmeticException.class)
 	public void testBernoulliNegative() {
 		bernoulli(-1);
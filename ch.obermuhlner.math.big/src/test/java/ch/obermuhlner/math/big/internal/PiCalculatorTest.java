@@ -0,0 +1,29 @@
+package ch.obermuhlner.math.big.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import org.junit.Test;
+
+public class PiCalculatorTest {
+
+	@Test
+	public void testParallelPreferred() {
+		assertFalse(PiCalculator.INSTANCE.isParallelPreferred(new MathContext(1000)));
+		assertTrue(PiCalculator.INSTANCE.isParallelPreferred(new MathContext(20000)));
+	}
+
+	@Test
+	public void testParallelSameAsSequential() {
+		// 20000 digits need about 1400 terms, the range of terms is split into parallel tasks twice
+		MathContext mathContext = new MathContext(20000);
+		BigDecimal expected = PiCalculator.INSTANCE.calculate(mathContext, false);
+
+		assertEquals(expected, PiCalculator.INSTANCE.calculate(mathContext, true));
+		assertEquals(expected.round(new MathContext(1000)), PiCalculator.INSTANCE.calculate(new MathContext(1000), false));
+	}
+}
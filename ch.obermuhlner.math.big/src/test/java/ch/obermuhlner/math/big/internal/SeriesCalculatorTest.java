@@ -0,0 +1,141 @@
+package ch.obermuhlner.math.big.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+import ch.obermuhlner.math.big.BigRational;
+
+public class SeriesCalculatorTest {
+
+	/**
+	 * The taylor series of exp(x) without factor ratios, so that only the loop over the cached {@link BigDecimal} factors is used.
+	 */
+	private static class ExpSeries extends SeriesCalculator {
+		private int n = 0;
+		private BigRational oneOverFactorialOfN = BigRational.ONE;
+
+		@Override
+		protected BigRational getCurrentFactor() {
+			return oneOverFactorialOfN;
+		}
+
+		@Override
+		protected void calculateNextFactor() {
+			n++;
+			oneOverFactorialOfN = oneOverFactorialOfN.divide(n);
+		}
+
+		@Override
+		protected PowerIterator createPowerIterator(BigDecimal x, MathContext mathContext) {
+			return new PowerNIterator(x, mathContext);
+		}
+	}
+
+	/**
+	 * The taylor series of exp(x) with factor ratios, so that rectangular splitting can be used.
+	 */
+	private static class ExpSeriesWithRatios extends ExpSeries {
+		@Override
+		protected BigRational getFactorRatio(int index) {
+			return BigRational.valueOf(1, index);
+		}
+	}
+
+	@Test
+	public void testFactorsMultiThreaded() {
+		ExpSeries series = new ExpSeries();
+
+		// the indices are requested out of order, so that several threads extend the factor table at the same time
+		int[] indices = IntStream.range(0, 2000).map(i -> (i * 37) % 500).toArray();
+		BigRational[] results = Arrays.stream(indices).parallel()
+				.mapToObj(index -> series.getFactor(index))
+				.toArray(BigRational[]::new);
+
+		ExpSeries singleThreadedSeries = new ExpSeries();
+		for (int i = 0; i < indices.length; i++) {
+			assertEquals("index=" + indices[i], singleThreadedSeries.getFactor(indices[i]), results[i]);
+		}
+	}
+
+	@Test
+	public void testRectangularSplittingPreferred() {
+		assertFalse(ExpCalculator.INSTANCE.isRectangularSplittingPreferred(new MathContext(10)));
+		assertTrue(ExpCalculator.INSTANCE.isRectangularSplittingPreferred(new MathContext(100)));
+		assertTrue(SinCalculator.INSTANCE.isRectangularSplittingPreferred(new MathContext(100)));
+		assertTrue(AsinCalculator.INSTANCE.isRectangularSplittingPreferred(new MathContext(100)));
+
+		// without factor ratios only the loop over the decimal factors is possible
+		assertFalse(new ExpSeries().isRectangularSplittingPreferred(new MathContext(100)));
+	}
+
+	@Test
+	public void testRectangularSplittingUsesDecimalFactors() {
+		ExpSeriesWithRatios series = new ExpSeriesWithRatios();
+		BigDecimal x = new BigDecimal("0.123456789");
+
+		for (int precision : new int[] { 10, 20, 50, 100, 50, 100 }) {
+			MathContext mathContext = new MathContext(precision);
+			BigDecimal expected = new ExpSeries().calculate(x, mathContext);
+			BigDecimal actual = series.calculate(x, mathContext);
+			// both sum up the terms without guard digits, the last digit might differ
+			assertTrue("precision=" + precision + " expected=" + expected + " actual=" + actual, expected.subtract(actual).abs().compareTo(expected.ulp().multiply(BigDecimal.valueOf(2))) <= 0);
+			assertTrue(series.getCachedMathContexts().contains(mathContext));
+		}
+		assertEquals(4, series.getCachedMathContexts().size());
+	}
+
+	@Test
+	public void testDecimalFactorsEviction() {
+		ExpSeries series = new ExpSeries();
+		BigDecimal x = new BigDecimal("0.1");
+
+		for (int precision = 11; precision <= 18; precision++) {
+			series.calculate(x, new MathContext(precision));
+		}
+		assertEquals(8, series.getCachedMathContexts().size());
+
+		// use the first one again, so that the second one is the least recently used
+		series.calculate(x, new MathContext(11));
+		series.calculate(x, new MathContext(19));
+
+		List<MathContext> cached = series.getCachedMathContexts();
+		assertEquals(8, cached.size());
+		assertTrue(cached.contains(new MathContext(11)));
+		assertFalse(cached.contains(new MathContext(12)));
+		assertTrue(cached.contains(new MathContext(19)));
+
+		// the rounding mode is part of the MathContext
+		series.calculate(x, new MathContext(11, RoundingMode.DOWN));
+		assertTrue(series.getCachedMathContexts().contains(new MathContext(11, RoundingMode.DOWN)));
+		assertEquals(8, series.getCachedMathContexts().size());
+	}
+
+	@Test
+	public void testDecimalFactorsAlternatingMathContexts() {
+		ExpSeries series = new ExpSeries();
+		BigDecimal x = new BigDecimal("0.123456789");
+		MathContext[] mathContexts = { new MathContext(20), new MathContext(50), new MathContext(20, RoundingMode.DOWN), new MathContext(35) };
+
+		// every MathContext calculated alone with its own series
+		String[] expected = Arrays.stream(mathContexts)
+				.map(mathContext -> new ExpSeries().calculate(x, mathContext).toString())
+				.toArray(String[]::new);
+		assertEquals(BigDecimalMath.exp(x, mathContexts[1]).toString(), expected[1]);
+
+		IntStream.range(0, 200).parallel().forEach(i -> {
+			int index = i % mathContexts.length;
+			assertEquals("mathContext=" + mathContexts[index], expected[index], series.calculate(x, mathContexts[index]).toString());
+		});
+	}
+}